@@ -366,6 +366,7 @@ public abstract class AbstractConduit implements IConduit {
 
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
+    collidablesDirty = true;
     conduitConnections.clear();
     int[] dirs = nbtRoot.getIntArray("connections");
     for (int i = 0; i < dirs.length; i++) {
@@ -426,7 +427,7 @@ public abstract class AbstractConduit implements IConduit {
     updateNetwork(world);
     updateConnections();
     if (clientStateDirty && getBundle() != null) {
-      getBundle().dirty();
+      getBundle().dirtyConduit(this);
       clientStateDirty = false;
     }
   }
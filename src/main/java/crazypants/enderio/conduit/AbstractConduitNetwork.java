@@ -2,7 +2,10 @@ package crazypants.enderio.conduit;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
@@ -12,6 +15,9 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
 
   protected final List<I> conduits = new ArrayList<I>();
 
+  // same contents as conduits, so adding to a long network doesn't scan the list
+  protected final Set<I> conduitSet = Collections.newSetFromMap(new IdentityHashMap<I, Boolean>());
+
   protected final Class<I> implClass;
   protected final Class<T> baseConduitClass;
 
@@ -61,7 +67,7 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
   }
 
   public void addConduit(I con) {
-    if(!conduits.contains(con)) {
+    if(conduitSet.add(con)) {
       if(conduits.isEmpty()) {
         ConduitNetworkTickHandler.instance.registerNetwork(this);
       }
@@ -74,6 +80,7 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
       con.setNetwork(null);
     }
     conduits.clear();
+    conduitSet.clear();
     ConduitNetworkTickHandler.instance.unregisterNetwork(this);
   }
 
@@ -83,8 +90,7 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
 
   public void notifyNetworkOfUpdate() {
     for (I con : conduits) {
-      TileEntity te = con.getBundle().getEntity();
-      te.getWorldObj().markBlockForUpdate(te.xCoord, te.yCoord, te.zCoord);
+      con.getBundle().dirtyConduit(con);
     }
   }
 
@@ -100,4 +106,17 @@ public abstract class AbstractConduitNetwork<T extends IConduit, I extends T> {
 
   public void doNetworkTick() {
   }
+
+  /**
+   * Number of ticks until {@link #doNetworkTick()} next needs to be called.
+   * Networks that sleep for longer than a tick must call {@link #wakeUp()}
+   * when something happens that needs handling sooner.
+   */
+  public int getTicksUntilNextTick() {
+    return 1;
+  }
+
+  protected void wakeUp() {
+    ConduitNetworkTickHandler.instance.wakeNetwork(this);
+  }
 }
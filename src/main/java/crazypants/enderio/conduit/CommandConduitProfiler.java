@@ -0,0 +1,67 @@
+package crazypants.enderio.conduit;
+
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+
+public class CommandConduitProfiler extends CommandBase {
+
+  private static final int DEFAULT_REPORT_SIZE = 10;
+
+  @Override
+  public String getCommandName() {
+    return "eioprofile";
+  }
+
+  @Override
+  public String getCommandUsage(ICommandSender sender) {
+    return "/eioprofile <start|stop|reset|report [count]>";
+  }
+
+  @Override
+  public int getRequiredPermissionLevel() {
+    return 3;
+  }
+
+  @Override
+  public void processCommand(ICommandSender sender, String[] args) {
+    if(args.length == 0) {
+      throw new WrongUsageException(getCommandUsage(sender));
+    }
+    ConduitNetworkProfiler profiler = ConduitNetworkProfiler.instance;
+    if("start".equals(args[0])) {
+      profiler.setEnabled(true);
+      send(sender, "Network profiling started");
+    } else if("stop".equals(args[0])) {
+      profiler.setEnabled(false);
+      send(sender, "Network profiling stopped");
+    } else if("reset".equals(args[0])) {
+      profiler.reset();
+      send(sender, "Network profiling data cleared");
+    } else if("report".equals(args[0])) {
+      int count = args.length > 1 ? parseIntWithMin(sender, args[1], 1) : DEFAULT_REPORT_SIZE;
+      for (String line : profiler.getReport(count)) {
+        send(sender, line);
+      }
+    } else {
+      throw new WrongUsageException(getCommandUsage(sender));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public List addTabCompletionOptions(ICommandSender sender, String[] args) {
+    if(args.length == 1) {
+      return getListOfStringsMatchingLastWord(args, "start", "stop", "reset", "report");
+    }
+    return null;
+  }
+
+  private static void send(ICommandSender sender, String message) {
+    sender.addChatMessage(new ChatComponentText(message));
+  }
+
+}
@@ -0,0 +1,190 @@
+package crazypants.enderio.conduit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import com.enderio.core.common.util.BlockCoord;
+
+/**
+ * Records how long network ticks take, per network and per network type. Does
+ * nothing but a boolean check unless it has been enabled with
+ * {@link CommandConduitProfiler}.
+ */
+public class ConduitNetworkProfiler {
+
+  public static final ConduitNetworkProfiler instance = new ConduitNetworkProfiler();
+
+  private static final int SAMPLES = 256;
+
+  private boolean enabled = false;
+
+  // weak so destroyed networks aren't kept alive while profiling
+  private final Map<Object, Stats> stats = new WeakHashMap<Object, Stats>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void reset() {
+    stats.clear();
+  }
+
+  public long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  public void end(AbstractConduitNetwork<?, ?> network, long start) {
+    end(network, network.getClass().getSimpleName(), network, start);
+  }
+
+  public void end(Object key, String type, AbstractConduitNetwork<?, ?> network, long start) {
+    if(!enabled || start == 0) {
+      return;
+    }
+    long time = System.nanoTime() - start;
+    Stats s = stats.get(key);
+    if(s == null) {
+      BlockCoord location = null;
+      int dimension = 0;
+      List<? extends IConduit> conduits = network.getConduits();
+      if(!conduits.isEmpty()) {
+        IConduit con = conduits.get(0);
+        location = con.getLocation();
+        World world = con.getBundle() == null ? null : con.getBundle().getWorld();
+        if(world != null) {
+          dimension = world.provider.dimensionId;
+        }
+      }
+      s = new Stats(type, location, dimension);
+      stats.put(key, s);
+    }
+    s.add(time);
+  }
+
+  public void end(Object key, String type, TileEntity representative, long start) {
+    if(!enabled || start == 0) {
+      return;
+    }
+    long time = System.nanoTime() - start;
+    Stats s = stats.get(key);
+    if(s == null) {
+      BlockCoord location = null;
+      int dimension = 0;
+      if(representative != null) {
+        location = new BlockCoord(representative);
+        if(representative.getWorldObj() != null) {
+          dimension = representative.getWorldObj().provider.dimensionId;
+        }
+      }
+      s = new Stats(type, location, dimension);
+      stats.put(key, s);
+    }
+    s.add(time);
+  }
+
+  public List<String> getReport(int maxEntries) {
+    List<String> result = new ArrayList<String>();
+    List<Stats> all = new ArrayList<Stats>(stats.values());
+
+    Map<String, Stats> byType = new LinkedHashMap<String, Stats>();
+    for (Stats s : all) {
+      Stats total = byType.get(s.type);
+      if(total == null) {
+        total = new Stats(s.type, null, 0);
+        byType.put(s.type, total);
+      }
+      total.count += s.count;
+      total.totalNanos += s.totalNanos;
+      total.networks++;
+    }
+    List<Stats> types = new ArrayList<Stats>(byType.values());
+    Collections.sort(types, BY_TOTAL_TIME);
+    result.add("By type:");
+    for (Stats s : types) {
+      result.add(String.format("  %s: %d networks, %.1f ms total, %.1f us avg", s.type, s.networks, s.totalNanos / 1000000d, s.getAverageMicros()));
+    }
+
+    Collections.sort(all, BY_AVERAGE_TIME);
+    result.add("Top " + Math.min(maxEntries, all.size()) + " of " + all.size() + " networks:");
+    for (int i = 0; i < all.size() && i < maxEntries; i++) {
+      Stats s = all.get(i);
+      String location = s.location == null ? "?" : s.location.chatString();
+      result.add(String.format("  %d. %s dim %d %s: %.1f us avg, %.1f us p99, %d ticks", i + 1, s.type, s.dimension, location, s.getAverageMicros(),
+          s.getP99Micros(), s.count));
+    }
+    return result;
+  }
+
+  private static final Comparator<Stats> BY_TOTAL_TIME = new Comparator<Stats>() {
+    @Override
+    public int compare(Stats o1, Stats o2) {
+      return Long.compare(o2.totalNanos, o1.totalNanos);
+    }
+  };
+
+  private static final Comparator<Stats> BY_AVERAGE_TIME = new Comparator<Stats>() {
+    @Override
+    public int compare(Stats o1, Stats o2) {
+      return Double.compare(o2.getAverageMicros(), o1.getAverageMicros());
+    }
+  };
+
+  private static final class Stats {
+
+    final String type;
+    final BlockCoord location;
+    final int dimension;
+
+    long count;
+    long totalNanos;
+    int networks;
+
+    // ring buffer of the most recent samples for the p99
+    private long[] samples;
+
+    Stats(String type, BlockCoord location, int dimension) {
+      this.type = type;
+      this.location = location;
+      this.dimension = dimension;
+    }
+
+    void add(long nanos) {
+      if(samples == null) {
+        samples = new long[SAMPLES];
+      }
+      samples[(int) (count % SAMPLES)] = nanos;
+      count++;
+      totalNanos += nanos;
+    }
+
+    double getAverageMicros() {
+      return count == 0 ? 0 : totalNanos / 1000d / count;
+    }
+
+    double getP99Micros() {
+      int num = (int) Math.min(count, SAMPLES);
+      if(num == 0) {
+        return 0;
+      }
+      long[] sorted = Arrays.copyOf(samples, num);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(num * 0.99) - 1;
+      return sorted[index] / 1000d;
+    }
+
+  }
+
+}
@@ -1,12 +1,15 @@
 package crazypants.enderio.conduit;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import crazypants.enderio.config.Config;
 
 public class ConduitNetworkTickHandler {
 
@@ -18,10 +21,28 @@ public class ConduitNetworkTickHandler {
     public void tickEnd(TickEvent.ServerTickEvent evt);
   }
 
-  private final List<TickListener> listeners = new ArrayList<TickListener>();
+  private static final int WHEEL_SIZE = 64;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
 
-  private final IdentityHashMap<AbstractConduitNetwork<?,?>, Boolean> networks =
-          new IdentityHashMap<AbstractConduitNetwork<?, ?>, Boolean>();
+  private List<TickListener> listeners = new ArrayList<TickListener>();
+
+  private final IdentityHashMap<AbstractConduitNetwork<?,?>, ScheduledNetwork> networks =
+          new IdentityHashMap<AbstractConduitNetwork<?, ?>, ScheduledNetwork>();
+
+  // networks that are due, in the order they will be ticked. Anything left
+  // over when the time budget runs out is ticked first next time.
+  private final ArrayDeque<ScheduledNetwork> ready = new ArrayDeque<ScheduledNetwork>();
+
+  // sleeping networks, bucketed by the tick they are due on
+  private final List<List<ScheduledNetwork>> wheel = new ArrayList<List<ScheduledNetwork>>(WHEEL_SIZE);
+
+  private long tickCount;
+
+  public ConduitNetworkTickHandler() {
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayList<ScheduledNetwork>());
+    }
+  }
 
   public void addListener(TickListener listener) {
     listeners.add(listener);
@@ -32,11 +53,34 @@ public class ConduitNetworkTickHandler {
   }
 
   public void registerNetwork(AbstractConduitNetwork<?,?> cn) {
-    networks.put(cn, Boolean.TRUE);
+    if(!networks.containsKey(cn)) {
+      ScheduledNetwork sn = new ScheduledNetwork(cn);
+      networks.put(cn, sn);
+      sn.ready = true;
+      ready.add(sn);
+    }
   }
 
   public void unregisterNetwork(AbstractConduitNetwork<?,?> cn) {
-    networks.remove(cn);
+    ScheduledNetwork sn = networks.remove(cn);
+    if(sn != null) {
+      sn.removed = true;
+    }
+  }
+
+  /**
+   * Makes a sleeping network tick on the next server tick.
+   */
+  public void wakeNetwork(AbstractConduitNetwork<?,?> cn) {
+    ScheduledNetwork sn = networks.get(cn);
+    if(sn != null && !sn.ready) {
+      sn.ready = true;
+      ready.add(sn);
+    }
+  }
+
+  public long getTickCount() {
+    return tickCount;
   }
 
   @SubscribeEvent
@@ -55,13 +99,74 @@ public class ConduitNetworkTickHandler {
   }
 
   public void tickEnd(TickEvent.ServerTickEvent event) {
-    for (TickListener h : listeners) {
+    // listeners added while these run, e.g. by neighbour updates, run next tick
+    List<TickListener> toRun = listeners;
+    listeners = new ArrayList<TickListener>();
+    for (TickListener h : toRun) {
       h.tickEnd(event);
     }
-    listeners.clear();
-    for(AbstractConduitNetwork<?,?> cn : networks.keySet()) {
-      cn.doNetworkTick();
+
+    tickCount++;
+    wakeDueNetworks();
+
+    long budget = Config.conduitNetworkTickBudgetMicros * 1000L;
+    long deadline = budget > 0 ? System.nanoTime() + budget : Long.MAX_VALUE;
+    int toRun = ready.size();
+    // always make some progress, so a single slow network can't stall the rest forever
+    for (int i = 0; i < toRun; i++) {
+      if(i > 0 && System.nanoTime() > deadline) {
+        break;
+      }
+      ScheduledNetwork sn = ready.poll();
+      sn.ready = false;
+      if(sn.removed) {
+        continue;
+      }
+      long start = ConduitNetworkProfiler.instance.start();
+      sn.network.doNetworkTick();
+      ConduitNetworkProfiler.instance.end(sn.network, start);
+      if(!sn.removed && !sn.ready) {
+        schedule(sn, sn.network.getTicksUntilNextTick());
+      }
+    }
+  }
+
+  private void wakeDueNetworks() {
+    List<ScheduledNetwork> bucket = wheel.get((int) (tickCount & WHEEL_MASK));
+    Iterator<ScheduledNetwork> it = bucket.iterator();
+    while (it.hasNext()) {
+      ScheduledNetwork sn = it.next();
+      if(sn.removed || sn.ready || (sn.dueTick & WHEEL_MASK) != (tickCount & WHEEL_MASK)) {
+        // stale entry, the network was woken early or rescheduled
+        it.remove();
+      } else if(sn.dueTick <= tickCount) {
+        it.remove();
+        sn.ready = true;
+        ready.add(sn);
+      }
+    }
+  }
+
+  private void schedule(ScheduledNetwork sn, int delay) {
+    if(delay <= 1) {
+      sn.dueTick = tickCount + 1;
+    } else {
+      sn.dueTick = tickCount + delay;
     }
+    wheel.get((int) (sn.dueTick & WHEEL_MASK)).add(sn);
+  }
+
+  private static final class ScheduledNetwork {
+
+    final AbstractConduitNetwork<?, ?> network;
+    long dueTick;
+    boolean ready;
+    boolean removed;
+
+    ScheduledNetwork(AbstractConduitNetwork<?, ?> network) {
+      this.network = network;
+    }
+
   }
 
 }
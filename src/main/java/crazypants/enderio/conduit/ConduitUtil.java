@@ -1,12 +1,16 @@
 package crazypants.enderio.conduit;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.block.Block.SoundType;
 import net.minecraft.entity.player.EntityPlayer;
@@ -272,30 +276,84 @@ public class ConduitUtil {
   }
 
   public static IConduit readConduitFromNBT(NBTTagCompound conduitRoot, short nbtVersion) {
+    return readConduitFromNBT(conduitRoot, nbtVersion, null);
+  }
+
+  /**
+   * Like {@link #readConduitFromNBT(NBTTagCompound, short)}, but if one of the
+   * reusable conduits is of the stored type it is removed from the list and
+   * read in place instead of creating a new instance.
+   */
+  public static IConduit readConduitFromNBT(NBTTagCompound conduitRoot, short nbtVersion, List<IConduit> reusable) {
     String typeName = conduitRoot.getString("conduitType");
     NBTTagCompound conduitBody = conduitRoot.getCompoundTag("conduit");
     if(typeName == null || conduitBody == null) {
       return null;
     }
-    if ((typeName.contains("conduit.oc") && !OCUtil.isOCEnabled()) || (typeName.contains("conduit.me") && !MEUtil.isMEEnabled())
-        || (typeName.contains("conduit.gas") && !GasUtil.isGasConduitEnabled())) {
-      return null;
-    }
     if (nbtVersion == 0 && "crazypants.enderio.conduit.liquid.LiquidConduit".equals(typeName)) {
       Log.debug("ConduitUtil.readConduitFromNBT: Converted pre 0.7.3 fluid conduit to advanced fluid conduit.");
       typeName = "crazypants.enderio.conduit.liquid.AdvancedLiquidConduit";
     }
-    IConduit result;
-    try {
-      result = (IConduit) Class.forName(typeName).newInstance();
-    } catch (Exception e) {
-      throw new RuntimeException("Could not create an instance of the conduit with name: " + typeName, e);
+    ConduitType type = getConduitType(typeName);
+    if(type.constructor == null) {
+      return null;
+    }
+    IConduit result = null;
+    if(reusable != null) {
+      for (Iterator<IConduit> it = reusable.iterator(); it.hasNext();) {
+        IConduit con = it.next();
+        if(con.getClass() == type.constructor.getDeclaringClass()) {
+          it.remove();
+          result = con;
+          break;
+        }
+      }
+    }
+    if(result == null) {
+      try {
+        result = type.constructor.newInstance();
+      } catch (Exception e) {
+        throw new RuntimeException("Could not create an instance of the conduit with name: " + typeName, e);
+      }
     }
     result.readFromNBT(conduitBody, nbtVersion);
     return result;
 
   }
 
+  private static ConduitType getConduitType(String typeName) {
+    ConduitType type = conduitTypes.get(typeName);
+    if(type != null) {
+      return type;
+    }
+    if ((typeName.contains("conduit.oc") && !OCUtil.isOCEnabled()) || (typeName.contains("conduit.me") && !MEUtil.isMEEnabled())
+        || (typeName.contains("conduit.gas") && !GasUtil.isGasConduitEnabled())) {
+      type = new ConduitType(null);
+    } else {
+      try {
+        type = new ConduitType(Class.forName(typeName).asSubclass(IConduit.class).getConstructor());
+      } catch (Exception e) {
+        throw new RuntimeException("Could not create an instance of the conduit with name: " + typeName, e);
+      }
+    }
+    conduitTypes.put(typeName, type);
+    return type;
+  }
+
+  // the client reads bundles on its own thread while the integrated server runs
+  private static final Map<String, ConduitType> conduitTypes = new ConcurrentHashMap<String, ConduitType>();
+
+  private static final class ConduitType {
+
+    // null if the conduit's mod integration is disabled
+    final Constructor<? extends IConduit> constructor;
+
+    ConduitType(Constructor<? extends IConduit> constructor) {
+      this.constructor = constructor;
+    }
+
+  }
+
   public static boolean isRedstoneControlModeMet(IConduitBundle bundle, RedstoneControlMode mode, DyeColor col) {
 
     if(mode == RedstoneControlMode.IGNORE) {
@@ -84,6 +84,12 @@ public interface IConduitBundle extends IInternalPowerHandler, IFluidHandler, II
 
   void dirty();
 
+  /**
+   * Only the client state of the given conduit changed, so it can be synced on
+   * its own instead of resending the whole bundle.
+   */
+  void dirtyConduit(IConduit conduit);
+
   // Facade
 
   enum FacadeRenderState {
@@ -57,9 +57,12 @@ import crazypants.enderio.conduit.item.IItemConduit;
 import crazypants.enderio.conduit.liquid.ILiquidConduit;
 import crazypants.enderio.conduit.me.IMEConduit;
 import crazypants.enderio.conduit.oc.IOCConduit;
+import crazypants.enderio.conduit.packet.PacketConduitSyncRequest;
+import crazypants.enderio.conduit.packet.PacketConduitUpdate;
 import crazypants.enderio.conduit.power.IPowerConduit;
 import crazypants.enderio.conduit.redstone.InsulatedRedstoneConduit;
 import crazypants.enderio.config.Config;
+import crazypants.enderio.network.PacketHandler;
 
 public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
 
@@ -83,6 +86,12 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
 
   private boolean clientUpdated = false;
 
+  // conduits whose client state changed, synced on their own unless the whole bundle is dirty
+  private final List<IConduit> dirtyConduits = new ArrayList<IConduit>();
+  // number of the last single conduit update sent, or on the client applied
+  private int syncSeq;
+  private boolean fullSyncRequested;
+
   private int lightOpacity = -1;
 
   @SideOnly(Side.CLIENT)
@@ -103,6 +112,18 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
     collidablesDirty = true;
   }
 
+  @Override
+  public void dirtyConduit(IConduit conduit) {
+    if(!Config.conduitDeltaSync) {
+      dirty();
+      return;
+    }
+    collidablesDirty = true;
+    if(!dirtyConduits.contains(conduit)) {
+      dirtyConduits.add(conduit);
+    }
+  }
+
   @Override
   public boolean shouldRenderInPass(int arg0) {
     if(facadeId != null && facadeId.isOpaqueCube() && !ConduitUtil.isFacadeHidden(this, EnderIO.proxy.getClientPlayer())) {
@@ -128,6 +149,7 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
     }
     nbtRoot.setInteger("facadeMeta", facadeMeta);
     nbtRoot.setShort("nbtVersion", NBT_VERSION);
+    nbtRoot.setInteger("syncSeq", syncSeq);
     
     if (MicroblocksUtil.supportMicroblocks()) {
       writeMicroblocksToNBT(nbtRoot);
@@ -137,14 +159,20 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
   @Override
   public void readCustomNBT(NBTTagCompound nbtRoot) {
     short nbtVersion = nbtRoot.getShort("nbtVersion");
+    syncSeq = nbtRoot.getInteger("syncSeq");
+    fullSyncRequested = false;
 
+    // client updates read into the conduits we already have where the type matches
+    List<IConduit> reusable = conduits.isEmpty() ? null : new ArrayList<IConduit>(conduits);
     conduits.clear();
     cachedCollidables.clear();
+    collidablesDirty = true;
+    connectorsDirty = true;
     NBTTagList conduitTags = (NBTTagList) nbtRoot.getTag("conduits");
     if(conduitTags != null) {
       for (int i = 0; i < conduitTags.tagCount(); i++) {
         NBTTagCompound conduitTag = conduitTags.getCompoundTagAt(i);
-        IConduit conduit = ConduitUtil.readConduitFromNBT(conduitTag, nbtVersion);
+        IConduit conduit = ConduitUtil.readConduitFromNBT(conduitTag, nbtVersion, reusable);
         if(conduit != null) {
           conduit.setBundle(this);
           conduits.add(conduit);
@@ -164,19 +192,7 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
     facadeMeta = nbtRoot.getInteger("facadeMeta");
 
     if(worldObj != null && worldObj.isRemote) {
-      if (conduits.size() == 1 && conduits.get(0) instanceof IItemConduit) {
-        boolean itemConduitClientUpdated = false;
-        for (Object o : Minecraft.getMinecraft().theWorld.playerEntities) {
-          Entity e = ((Entity) o);
-          if (e.getDistanceSq(this.xCoord, yCoord, zCoord) < 36) {
-            itemConduitClientUpdated = true;
-            break;
-          }
-        }
-        if (itemConduitClientUpdated) clientUpdated = true;
-      } else {
-        clientUpdated = true;
-      }
+      markClientUpdated();
     }
 
     if (MicroblocksUtil.supportMicroblocks()) {
@@ -270,6 +286,8 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
 
     if(conduitsDirty) {
       doConduitsDirty();
+    } else if(!dirtyConduits.isEmpty()) {
+      doConduitUpdates();
     }
 
     if(facadeChanged) {
@@ -287,9 +305,71 @@ public class TileConduitBundle extends TileEntityEio implements IConduitBundle {
       worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
       markDirty();
     }
+    // the full sync covers these
+    dirtyConduits.clear();
     conduitsDirty = false;
   }
 
+  private void doConduitUpdates() {
+    if(!worldObj.isRemote) {
+      for (IConduit conduit : dirtyConduits) {
+        if(conduits.contains(conduit)) {
+          syncSeq++;
+          PacketHandler.sendToAllWatching(new PacketConduitUpdate(this, conduit, syncSeq), this);
+        }
+      }
+      markDirty();
+    }
+    dirtyConduits.clear();
+  }
+
+  /**
+   * Applies a single conduit update from the server. Returns false if it
+   * can't be applied because an earlier one was missed, the bundle then needs
+   * a full sync.
+   */
+  public boolean readConduitUpdate(int seq, NBTTagCompound conduitRoot) {
+    if(seq <= syncSeq) {
+      // already included in a newer full sync
+      return true;
+    }
+    if(seq != syncSeq + 1) {
+      return false;
+    }
+    IConduit conduit = ConduitUtil.readConduitFromNBT(conduitRoot, NBT_VERSION, new ArrayList<IConduit>(conduits));
+    if(conduit == null || !conduits.contains(conduit)) {
+      return false;
+    }
+    syncSeq = seq;
+    collidablesDirty = true;
+    connectorsDirty = true;
+    markClientUpdated();
+    return true;
+  }
+
+  private void markClientUpdated() {
+    if (conduits.size() == 1 && conduits.get(0) instanceof IItemConduit) {
+      boolean itemConduitClientUpdated = false;
+      for (Object o : Minecraft.getMinecraft().theWorld.playerEntities) {
+        Entity e = ((Entity) o);
+        if (e.getDistanceSq(this.xCoord, yCoord, zCoord) < 36) {
+          itemConduitClientUpdated = true;
+          break;
+        }
+      }
+      if (itemConduitClientUpdated) clientUpdated = true;
+    } else {
+      clientUpdated = true;
+    }
+  }
+
+  public void requestFullSync() {
+    if(!fullSyncRequested) {
+      fullSyncRequested = true;
+      PacketHandler.INSTANCE.sendToServer(new PacketConduitSyncRequest(this));
+    }
+  }
+
   private void doFacadeChanged() {
     //force re-calc of lighting for both client and server
     ConduitUtil.forceSkylightRecalculation(worldObj, xCoord, yCoord, zCoord);
@@ -180,6 +180,8 @@ public abstract class AbstractGasConduit extends AbstractConduit implements IGas
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    extractionModes.clear();
+    extractionColors.clear();
 
     for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
       String key = "extRM." + dir.name();
@@ -77,7 +77,7 @@ public class GasConduit extends AbstractGasTankConduit {
     }
     doExtract();
     if(stateDirty) {
-      getBundle().dirty();
+      getBundle().dirtyConduit(this);
       stateDirty = false;
     }
   }
@@ -60,7 +60,7 @@ public class PacketFluidChannel extends AbstractConduitPacket<ILiquidConduit> im
     else
       eCon.setOutputColor(message.dir, message.channel);
 
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
@@ -57,7 +57,7 @@ public class PacketFluidFilter extends AbstractConduitPacket<ILiquidConduit> imp
     }    
     EnderLiquidConduit eCon = (EnderLiquidConduit)conduit;
     eCon.setFilter(message.dir, message.filter, message.isInput);
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
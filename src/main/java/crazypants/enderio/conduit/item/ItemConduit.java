@@ -781,6 +781,19 @@ public class ItemConduit extends AbstractConduit implements IItemConduit {
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    inputFilters.clear();
+    outputFilters.clear();
+    speedUpgrades.clear();
+    functionUpgrades.clear();
+    inputFilterUpgrades.clear();
+    outputFilterUpgrades.clear();
+    extractionModes.clear();
+    extractionColors.clear();
+    selfFeed.clear();
+    roundRobin.clear();
+    priority.clear();
+    inputColors.clear();
+    outputColors.clear();
 
     if(nbtRoot.hasKey("metaData")) {
       metaData = nbtRoot.getShort("metaData");
@@ -13,6 +13,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.enderio.core.common.util.BlockCoord;
 
 import crazypants.enderio.conduit.AbstractConduitNetwork;
+import crazypants.enderio.conduit.ConduitNetworkTickHandler;
 import crazypants.enderio.conduit.item.NetworkedInventory.Target;
 import crazypants.enderio.conduit.item.filter.IItemFilter;
 import crazypants.enderio.machine.invpanel.server.InventoryDatabaseServer;
@@ -24,12 +25,16 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
 
   final Map<BlockCoord, IItemConduit> conMap = new HashMap<BlockCoord, IItemConduit>();
 
+  final ItemConduitRoutingTable routingTable = new ItemConduitRoutingTable(conMap);
+
   private boolean requiresSort = true;
 
   private boolean doingSend = false;
 
   private int changeCount;
 
+  private long lastTickCount = -1;
+
   private InventoryDatabaseServer database;
 
   public ItemConduitNetwork() {
@@ -40,6 +45,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
   public void addConduit(IItemConduit con) {
     super.addConduit(con);
     conMap.put(con.getLocation(), con);
+    routingTable.conduitsChanged();
 
     TileEntity te = con.getBundle().getEntity();
     if(te != null) {
@@ -57,7 +63,18 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     NetworkedInventory inv = new NetworkedInventory(this, externalInventory, itemConduit, direction, bc);
     inventories.add(inv);
     getOrCreate(bc).add(inv);
-    requiresSort = true;
+    wakeUp();
+    if(!requiresSort) {
+      // only the new inventory's targets and its place in the other
+      // inventories' lists need working out, distances are already cached
+      inv.updateInsertOrder();
+      for (NetworkedInventory other : inventories) {
+        if(other != inv) {
+          other.targetAdded(inv);
+        }
+      }
+      changeCount++;
+    }
   }
   
   public NetworkedInventory getInventory(IItemConduit conduit, ForgeDirection dir) {
@@ -101,13 +118,25 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     if(remove != null) {
       invs.remove(remove);
       inventories.remove(remove);
-      requiresSort = true;
+      if(!requiresSort) {
+        for (NetworkedInventory other : inventories) {
+          other.targetRemoved(remove);
+        }
+        changeCount++;
+      }
     }
 
   }
 
+  void inventoryContentsChanged(NetworkedInventory inv) {
+    if(database != null) {
+      database.inventoryChanged(inv);
+    }
+  }
+
   public void routesChanged() {
     requiresSort = true;
+    wakeUp();
   }
 
   public void inventoryPanelSourcesChanged() {
@@ -122,6 +151,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     check: {
       if(database == null) {
         database = new InventoryDatabaseServer(this);
+        wakeUp();
       } else if(database.isCurrent()) {
         break check;
       }
@@ -133,6 +163,7 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
   @Override
   public void destroyNetwork() {
     super.destroyNetwork();
+    routingTable.conduitsChanged();
     if(database != null) {
       database.resetDatabase();
       database = null;
@@ -207,11 +238,14 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
 
   @Override
   public void doNetworkTick() {
+    long tickCount = ConduitNetworkTickHandler.instance.getTickCount();
+    int elapsed = lastTickCount < 0 ? 1 : (int) Math.min(Integer.MAX_VALUE, tickCount - lastTickCount);
+    lastTickCount = tickCount;
     for (NetworkedInventory ni : inventories) {
       if(requiresSort) {
         ni.updateInsertOrder();
       }
-      ni.onTick();
+      ni.onTick(elapsed);
     }
     if(requiresSort) {
       requiresSort = false;
@@ -222,10 +256,27 @@ public class ItemConduitNetwork extends AbstractConduitNetwork<IItemConduit, IIt
     }
   }
 
+  @Override
+  public int getTicksUntilNextTick() {
+    if(requiresSort || database != null) {
+      return 1;
+    }
+    // nothing happens until the first inventory's extraction delay has run out
+    int res = Integer.MAX_VALUE;
+    for (NetworkedInventory ni : inventories) {
+      res = Math.min(res, Math.max(1, ni.tickDeficit));
+    }
+    return res == Integer.MAX_VALUE ? 20 : res;
+  }
+
   static int compare(int x, int y) {
     return (x < y) ? -1 : ((x == y) ? 0 : 1);
   }
 
   static int MAX_SLOT_CHECK_PER_TICK = 64;
 
+  static int IDLE_SLOT_RECHECK_TICKS = 200;
+
+  static int MAX_CACHED_ROUTES = 256;
+
 }
@@ -0,0 +1,79 @@
+package crazypants.enderio.conduit.item;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import com.enderio.core.common.util.BlockCoord;
+
+/**
+ * Caches the number of conduit hops between the conduits of an item conduit
+ * network. Distances from a conduit are calculated the first time they are
+ * asked for and kept until the conduits making up the network change, so
+ * adding or removing an inventory never needs a new walk of the network.
+ */
+class ItemConduitRoutingTable {
+
+  static final int UNREACHABLE = 9999999;
+
+  private final Map<BlockCoord, IItemConduit> conMap;
+
+  private final Map<BlockCoord, Map<BlockCoord, Integer>> distances = new HashMap<BlockCoord, Map<BlockCoord, Integer>>();
+
+  ItemConduitRoutingTable(Map<BlockCoord, IItemConduit> conMap) {
+    this.conMap = conMap;
+  }
+
+  int getDistance(BlockCoord from, BlockCoord to) {
+    if(from == null || to == null) {
+      return UNREACHABLE;
+    }
+    Integer res = getDistances(from).get(to);
+    return res == null ? UNREACHABLE : res.intValue();
+  }
+
+  void conduitsChanged() {
+    distances.clear();
+  }
+
+  private Map<BlockCoord, Integer> getDistances(BlockCoord from) {
+    Map<BlockCoord, Integer> res = distances.get(from);
+    if(res == null) {
+      res = calculateDistances(from);
+      distances.put(from, res);
+    }
+    return res;
+  }
+
+  private Map<BlockCoord, Integer> calculateDistances(BlockCoord from) {
+    Map<BlockCoord, Integer> visited = new HashMap<BlockCoord, Integer>();
+    if(!conMap.containsKey(from)) {
+      return visited;
+    }
+    visited.put(from, 0);
+
+    List<BlockCoord> steps = new ArrayList<BlockCoord>();
+    steps.add(from);
+    int distance = 0;
+    while (!steps.isEmpty()) {
+      distance++;
+      List<BlockCoord> nextSteps = new ArrayList<BlockCoord>();
+      for (BlockCoord bc : steps) {
+        IItemConduit con = conMap.get(bc);
+        for (ForgeDirection dir : con.getConduitConnections()) {
+          BlockCoord next = bc.getLocation(dir);
+          if(!visited.containsKey(next) && conMap.containsKey(next)) {
+            visited.put(next, distance);
+            nextSteps.add(next);
+          }
+        }
+      }
+      steps = nextSteps;
+    }
+    return visited;
+  }
+
+}
@@ -1,8 +1,9 @@
 package crazypants.enderio.conduit.item;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,9 +22,12 @@ import com.enderio.core.common.util.ItemUtil;
 import com.enderio.core.common.util.RoundRobinIterator;
 
 import crazypants.enderio.conduit.ConnectionMode;
+import crazypants.enderio.conduit.item.filter.ExistingItemFilter;
 import crazypants.enderio.conduit.item.filter.IItemFilter;
 import crazypants.enderio.config.Config;
+import crazypants.enderio.machine.AbstractMachineEntity;
 import crazypants.enderio.machine.invpanel.TileInventoryPanel;
+import crazypants.util.ItemStackKey;
 
 public class NetworkedInventory {
 
@@ -34,10 +38,26 @@ public class NetworkedInventory {
   int inventorySide;
 
   List<Target> sendPriority = new ArrayList<Target>();
-  RoundRobinIterator<Target> rrIter = new RoundRobinIterator<Target>(sendPriority);
+
+  // targets that may accept an item, so insertIntoTargets doesn't re-check every filter
+  // least recently used routes are dropped first, so busy routes keep their
+  // round robin position
+  private final Map<ItemStackKey, CachedRoute> routeCache = new LinkedHashMap<ItemStackKey, CachedRoute>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ItemStackKey, CachedRoute> eldest) {
+      return size() > ItemConduitNetwork.MAX_CACHED_ROUTES;
+    }
+  };
 
   private int extractFromSlot = -1;
 
+  // slots found empty or not extractable, skipped until the stack in them changes
+  private ItemStack[] idleStacks;
+  private int[] idleSizes;
+  private int idleSlotCount;
+  private long idleSince;
+  private int sourceChangeCount;
+
   int tickDeficit;
 
   //work around for a vanilla chest changing into a double chest without doing unneeded checks all the time 
@@ -106,7 +126,9 @@ public class NetworkedInventory {
     return con.getOutputPriority(conDir);
   }
 
-  public void onTick() {
+  public void onTick(int elapsed) {
+    // the network skips ticks in which no inventory would have done anything
+    tickDeficit -= elapsed - 1;
     if(tickDeficit > 0 || !canExtract() || !con.isExtractionRedstoneConditionMet(conDir)) {
       //do nothing     
     } else {
@@ -151,15 +173,24 @@ public class NetworkedInventory {
       return false;
     }
     int numSlots = slotIndices.length;
+    boolean sparse = Config.itemConduitSparseExtraction;
+    if(sparse && isSourceIdle(numSlots)) {
+      return false;
+    }
     ItemStack extractItem = null;
     int maxExtracted = con.getMaximumExtracted(conDir);
 
     int slot = -1;
     int slotChecksPerTick = Math.min(numSlots, ItemConduitNetwork.MAX_SLOT_CHECK_PER_TICK);
-    for (int i = 0; i < slotChecksPerTick; i++) {
+    int slotChecks = 0;
+    for (int i = 0; i < numSlots && slotChecks < slotChecksPerTick; i++) {
       int index = nextSlot(numSlots);
       slot = slotIndices[index];
       ItemStack item = getInventory().getStackInSlot(slot);
+      if(sparse && isIdleSlot(index, item)) {
+        continue;
+      }
+      slotChecks++;
       if(canExtractItem(item)) {
         extractItem = item.copy();
         if(getInventory().canExtractItem(slot, extractItem, inventorySide)) {
@@ -167,12 +198,66 @@ public class NetworkedInventory {
             setNextStartingSlot(slot);
             return true;
           }
+          // the targets may have room later, so don't mark this slot as idle
+          continue;
         }
       }
+      if(sparse) {
+        setIdleSlot(index, item);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Forgets the idle slots if they may be stale. Returns true if every slot is
+   * known to be idle, so the source doesn't need to be scanned at all.
+   */
+  private boolean isSourceIdle(int numSlots) {
+    long now = world.getTotalWorldTime();
+    if(idleSizes == null || idleSizes.length != numSlots || now - idleSince > ItemConduitNetwork.IDLE_SLOT_RECHECK_TICKS || hasSourceChanged()) {
+      idleStacks = new ItemStack[numSlots];
+      idleSizes = new int[numSlots];
+      Arrays.fill(idleSizes, -1);
+      idleSlotCount = 0;
+      idleSince = now;
+      return false;
+    }
+    return idleSlotCount >= numSlots;
+  }
+
+  private boolean hasSourceChanged() {
+    if(inv instanceof AbstractMachineEntity) {
+      int changeCount = ((AbstractMachineEntity) inv).getInventoryChangeCount();
+      if(changeCount != sourceChangeCount) {
+        sourceChangeCount = changeCount;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isIdleSlot(int index, ItemStack item) {
+    if(idleSizes[index] < 0) {
+      return false;
+    }
+    if(idleStacks[index] == item && (item == null ? 0 : item.stackSize) == idleSizes[index]) {
+      return true;
     }
+    idleStacks[index] = null;
+    idleSizes[index] = -1;
+    idleSlotCount--;
     return false;
   }
 
+  private void setIdleSlot(int index, ItemStack item) {
+    if(idleSizes[index] < 0) {
+      idleSlotCount++;
+    }
+    idleStacks[index] = item;
+    idleSizes[index] = item == null ? 0 : item.stackSize;
+  }
+
   private boolean canExtractItem(ItemStack itemStack) {
     if(itemStack == null) {
       return false;
@@ -218,6 +303,7 @@ public class NetworkedInventory {
       }
     }
     con.itemsExtracted(numInserted, slot);
+    network.inventoryContentsChanged(this);
     tickDeficit = Math.round(numInserted * con.getTickTimePerItem(conDir));
   }
 
@@ -230,9 +316,8 @@ public class NetworkedInventory {
     int leftToInsert = totalToInsert;
     boolean matchedStickyInput = false;
 
-    Iterable<Target> targets = getTargetIterator();
+    Iterable<Target> targets = getTargetIterator(toExtract);
 
-    //for (Target target : sendPriority) {
     for (Target target : targets) {
       if(target.stickyInput && !matchedStickyInput) {
         IItemFilter of = target.inv.con.getOutputFilter(target.inv.conDir);
@@ -255,11 +340,48 @@ public class NetworkedInventory {
     return totalToInsert - leftToInsert;
   }
 
-  private Iterable<Target> getTargetIterator() {
+  private Iterable<Target> getTargetIterator(ItemStack item) {
+    CachedRoute route = getCachedRoute(item);
     if(con.isRoundRobinEnabled(conDir)) {
-      return rrIter;
+      return route.rrIter;
+    }
+    return route.targets;
+  }
+
+  private CachedRoute getCachedRoute(ItemStack item) {
+    ItemStackKey key = new ItemStackKey(item);
+    CachedRoute route = routeCache.get(key);
+    if(route == null) {
+      route = new CachedRoute();
+      for (Target target : sendPriority) {
+        if(target.inv.mayAcceptItem(item)) {
+          route.targets.add(target);
+        }
+      }
+      routeCache.put(key.copy(), route);
+    }
+    return route;
+  }
+
+  void clearRouteCache() {
+    routeCache.clear();
+  }
+
+  /**
+   * False only if this inventory's output filter will reject the item no
+   * matter what the inventories contain, which makes the answer safe to cache
+   * until the filter or the routes change.
+   */
+  private boolean mayAcceptItem(ItemStack item) {
+    IItemFilter filter = con.getOutputFilter(conDir);
+    if(filter == null || isInventoryDependent(filter)) {
+      return true;
     }
-    return sendPriority;
+    return filter.doesItemPassFilter(this, item);
+  }
+
+  private static boolean isInventoryDependent(IItemFilter filter) {
+    return filter instanceof ExistingItemFilter && ((ExistingItemFilter) filter).getSnapshot() == null;
   }
 
   public final void updateInventory() {
@@ -281,94 +403,72 @@ public class NetworkedInventory {
         return 0;
       }
     }
-    return ItemUtil.doInsertItem(getInventory(), item, ForgeDirection.values()[inventorySide]);
+    int inserted = ItemUtil.doInsertItem(getInventory(), item, ForgeDirection.values()[inventorySide]);
+    if(inserted > 0) {
+      network.inventoryContentsChanged(this);
+      if(filter instanceof ExistingItemFilter) {
+        ((ExistingItemFilter) filter).itemInserted(this, item);
+      }
+    }
+    return inserted;
   }
 
   void updateInsertOrder() {
     sendPriority.clear();
+    clearRouteCache();
+    idleSizes = null;
     if(!canExtract()) {
       return;
     }
-    List<Target> result = new ArrayList<NetworkedInventory.Target>();
-
     for (NetworkedInventory other : network.inventories) {
-      if((con.isSelfFeedEnabled(conDir) || (other != this))
-          && other.canInsert()
-          && con.getInputColor(conDir) == other.con.getOutputColor(other.conDir)) {
-
-        if(Config.itemConduitUsePhyscialDistance) {
-          sendPriority.add(new Target(other, distanceTo(other), other.isSticky(), other.getPriority()));
-        } else {
-          result.add(new Target(other, 9999999, other.isSticky(), other.getPriority()));
-        }
-      }
-    }
-
-    if(Config.itemConduitUsePhyscialDistance) {
-      Collections.sort(sendPriority);
-    } else {
-      if(!result.isEmpty()) {
-        Map<BlockCoord, Integer> visited = new HashMap<BlockCoord, Integer>();
-        List<BlockCoord> steps = new ArrayList<BlockCoord>();
-        steps.add(con.getLocation());
-        calculateDistances(result, visited, steps, 0);
-
-        sendPriority.addAll(result);
-
-        Collections.sort(sendPriority);
+      if(isValidTarget(other)) {
+        sendPriority.add(createTarget(other));
       }
     }
-
+    Collections.sort(sendPriority);
   }
 
-  private void calculateDistances(List<Target> targets, Map<BlockCoord, Integer> visited, List<BlockCoord> steps, int distance) {
-    if(steps == null || steps.isEmpty()) {
+  void targetAdded(NetworkedInventory other) {
+    if(!canExtract() || !isValidTarget(other)) {
       return;
     }
+    clearRouteCache();
+    Target target = createTarget(other);
+    int index = Collections.binarySearch(sendPriority, target);
+    if(index < 0) {
+      index = -index - 1;
+    }
+    // keep the same order a full sort would produce for equally ranked targets
+    while (index < sendPriority.size() && sendPriority.get(index).compareTo(target) == 0) {
+      index++;
+    }
+    sendPriority.add(index, target);
+  }
 
-    ArrayList<BlockCoord> nextSteps = new ArrayList<BlockCoord>();
-    for (BlockCoord bc : steps) {
-      IItemConduit con = network.conMap.get(bc);
-      if(con != null) {
-        for (ForgeDirection dir : con.getExternalConnections()) {
-          Target target = getTarget(targets, con, dir);
-          if(target != null && target.distance > distance) {
-            target.distance = distance;
-          }
-        }
-
-        if(!visited.containsKey(bc)) {
-          visited.put(bc, distance);
-        } else {
-          int prevDist = visited.get(bc);
-          if(prevDist <= distance) {
-            continue;
-          }
-          visited.put(bc, distance);
-        }
-
-        for (ForgeDirection dir : con.getConduitConnections()) {
-          nextSteps.add(bc.getLocation(dir));
-        }
+  void targetRemoved(NetworkedInventory other) {
+    for (int i = 0; i < sendPriority.size(); i++) {
+      if(sendPriority.get(i).inv == other) {
+        sendPriority.remove(i);
+        clearRouteCache();
+        return;
       }
     }
-    calculateDistances(targets, visited, nextSteps, distance + 1);
   }
 
-  private Target getTarget(List<Target> targets, IItemConduit con, ForgeDirection dir) {
-    if(targets == null || con == null || con.getLocation() == null) {
-      return null;
-    }
-    for (Target target : targets) {
-      BlockCoord targetConLoc = null;
-      if(target != null && target.inv != null && target.inv.con != null) {
-        targetConLoc = target.inv.con.getLocation();
-      }
-      if(targetConLoc != null && target.inv.conDir == dir && targetConLoc.equals(con.getLocation())) {
-        return target;
-      }
+  private boolean isValidTarget(NetworkedInventory other) {
+    return (con.isSelfFeedEnabled(conDir) || (other != this))
+        && other.canInsert()
+        && con.getInputColor(conDir) == other.con.getOutputColor(other.conDir);
+  }
+
+  private Target createTarget(NetworkedInventory other) {
+    int distance;
+    if(Config.itemConduitUsePhyscialDistance) {
+      distance = distanceTo(other);
+    } else {
+      distance = network.routingTable.getDistance(con.getLocation(), other.con.getLocation());
     }
-    return null;
+    return new Target(other, distance, other.isSticky(), other.getPriority());
   }
 
   private int distanceTo(NetworkedInventory other) {
@@ -379,6 +479,10 @@ public class NetworkedInventory {
     return inv;
   }
 
+  public World getWorld() {
+    return world;
+  }
+
   public ISidedInventory getInventoryRecheck() {
     if(recheckInv) {
       updateInventory();
@@ -405,6 +509,11 @@ public class NetworkedInventory {
     }
   }
 
+  static class CachedRoute {
+    final List<Target> targets = new ArrayList<Target>();
+    final RoundRobinIterator<Target> rrIter = new RoundRobinIterator<Target>(targets);
+  }
+
   static class Target implements Comparable<Target> {
     NetworkedInventory inv;
     int distance;
@@ -7,7 +7,9 @@ import crazypants.enderio.conduit.item.IItemConduit;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
@@ -22,6 +24,8 @@ import com.enderio.core.common.network.NetworkUtil;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import crazypants.enderio.conduit.item.NetworkedInventory;
+import crazypants.enderio.machine.AbstractMachineEntity;
+import crazypants.util.ItemStackKey;
 
 public class ExistingItemFilter implements IItemFilter {
 
@@ -34,6 +38,14 @@ public class ExistingItemFilter implements IItemFilter {
 
   List<ItemStack> snapshot = null;
 
+  // hashed views of the snapshot and of the filtered inventory, dropped when
+  // the settings change
+  private StackIndex snapshotIndex;
+  private StackIndex inventoryIndex;
+  private NetworkedInventory indexedInventory;
+  private long inventoryIndexTime;
+  private int inventoryIndexChangeCount;
+
   @Override
   public boolean doesItemPassFilter(NetworkedInventory ni, ItemStack item) {
     if(item == null) {
@@ -48,23 +60,95 @@ public class ExistingItemFilter implements IItemFilter {
   }
 
   private boolean isStackInInventory(NetworkedInventory ni, ItemStack item) {
-    int[] slots = ni.getInventory().getAccessibleSlotsFromSide(ni.getInventorySide());
-    for (int i = 0; i < slots.length; i++) {
-      ItemStack stack = ni.getInventory().getStackInSlot(i);
-      if (stackEqual(item, stack)) {
-        return true;
+    return getInventoryIndex(ni).contains(item);
+  }
+
+  /**
+   * The inventory is rescanned once per tick, or only when it changed for our
+   * own machines. Items the conduit inserts in between are added as they go
+   * in.
+   */
+  private StackIndex getInventoryIndex(NetworkedInventory ni) {
+    long now = ni.getWorld() == null ? 0 : ni.getWorld().getTotalWorldTime();
+    int changeCount = 0;
+    boolean tracked = ni.getInventory() instanceof AbstractMachineEntity;
+    if(tracked) {
+      changeCount = ((AbstractMachineEntity) ni.getInventory()).getInventoryChangeCount();
+    }
+    if(inventoryIndex == null || indexedInventory != ni
+        || (tracked ? changeCount != inventoryIndexChangeCount : now != inventoryIndexTime)) {
+      inventoryIndex = new StackIndex();
+      int[] slots = ni.getInventory().getAccessibleSlotsFromSide(ni.getInventorySide());
+      for (int i = 0; i < slots.length; i++) {
+        inventoryIndex.add(ni.getInventory().getStackInSlot(slots[i]));
       }
+      indexedInventory = ni;
+      inventoryIndexTime = now;
+      inventoryIndexChangeCount = changeCount;
+    }
+    return inventoryIndex;
+  }
+
+  public void itemInserted(NetworkedInventory ni, ItemStack item) {
+    if(inventoryIndex != null && indexedInventory == ni) {
+      inventoryIndex.add(item);
     }
-    return false;
   }
 
   boolean isStackInSnapshot(ItemStack item) {
-    for(ItemStack stack : snapshot) {
-      if(stackEqual(item, stack)) {
-        return true;
+    if(snapshotIndex == null) {
+      snapshotIndex = new StackIndex();
+      for (ItemStack stack : snapshot) {
+        snapshotIndex.add(stack);
       }
     }
-    return false;
+    return snapshotIndex.contains(item);
+  }
+
+  private void settingsChanged() {
+    snapshotIndex = null;
+    inventoryIndex = null;
+    indexedInventory = null;
+  }
+
+  private ItemStackKey getKey(ItemStack stack) {
+    return new ItemStackKey(stack.getItem(), matchMeta ? stack.getItemDamage() : 0, matchNBT ? stack.stackTagCompound : null);
+  }
+
+  /**
+   * Matches the same stacks as stackEqual.
+   */
+  private class StackIndex {
+
+    final Set<ItemStackKey> keys = new HashSet<ItemStackKey>();
+    final Set<Integer> oreIds = new HashSet<Integer>();
+
+    void add(ItemStack stack) {
+      if(stack == null) {
+        return;
+      }
+      keys.add(getKey(stack).copy());
+      if(useOreDict) {
+        int id = OreDictionary.getOreID(stack);
+        if(id != -1) {
+          oreIds.add(id);
+        }
+      }
+    }
+
+    boolean contains(ItemStack stack) {
+      if(stack == null) {
+        return false;
+      }
+      if(useOreDict && !oreIds.isEmpty()) {
+        int id = OreDictionary.getOreID(stack);
+        if(id != -1 && oreIds.contains(id)) {
+          return true;
+        }
+      }
+      return keys.contains(getKey(stack));
+    }
+
   }
 
   boolean stackEqual(ItemStack toInsert, ItemStack existing) {
@@ -111,6 +195,7 @@ public class ExistingItemFilter implements IItemFilter {
   
   public void setSnapshot(NetworkedInventory ni) {
     snapshot = new ArrayList<ItemStack>();
+    snapshotIndex = null;
     mergeSnapshot(ni);
   }
 
@@ -123,6 +208,7 @@ public class ExistingItemFilter implements IItemFilter {
       ItemStack stack = ni.getInventory().getStackInSlot(i);
       if(stack != null && !isStackInSnapshot(stack)) {
         snapshot.add(stack);
+        snapshotIndex.add(stack);
       }
     }
   }
@@ -137,6 +223,7 @@ public class ExistingItemFilter implements IItemFilter {
       ItemStack stack = inventory.getStackInSlot(i);
       if(stack != null && !isStackInSnapshot(stack)) {
         snapshot.add(stack);
+        snapshotIndex.add(stack);
         added = true;
       }
     }
@@ -149,6 +236,7 @@ public class ExistingItemFilter implements IItemFilter {
 
   public void setSnapshot(List<ItemStack> snapshot) {
     this.snapshot = snapshot;
+    snapshotIndex = null;
   }
 
   public boolean isMatchMeta() {
@@ -157,6 +245,7 @@ public class ExistingItemFilter implements IItemFilter {
 
   public void setMatchMeta(boolean matchMeta) {
     this.matchMeta = matchMeta;
+    settingsChanged();
   }
 
   public boolean isMatchNBT() {
@@ -165,6 +254,7 @@ public class ExistingItemFilter implements IItemFilter {
 
   public void setMatchNBT(boolean matchNbt) {
     matchNBT = matchNbt;
+    settingsChanged();
   }
 
   public boolean isUseOreDict() {
@@ -173,6 +263,7 @@ public class ExistingItemFilter implements IItemFilter {
 
   public void setUseOreDict(boolean useOreDict) {
     this.useOreDict = useOreDict;
+    settingsChanged();
   }
 
   @Override
@@ -224,6 +315,7 @@ public class ExistingItemFilter implements IItemFilter {
     useOreDict = nbtRoot.getBoolean("useOreDict");
     sticky = nbtRoot.getBoolean("sticky");
     blacklist = nbtRoot.getBoolean("blacklist");
+    settingsChanged();
   }
 
   @Override
@@ -9,7 +9,11 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -52,6 +56,11 @@ public class ItemFilter implements IInventory, IItemFilter {
 
   private boolean isAdvanced;
 
+  // filter slots by item and the ore ids of all slots, rebuilt when the
+  // items change
+  private Map<Item, int[]> slotsByItem;
+  private Set<Integer> slotOreIds;
+
   public void copyFrom(ItemFilter o) {
     isBlacklist = o.isBlacklist;
     matchMeta = o.matchMeta;
@@ -63,6 +72,7 @@ public class ItemFilter implements IInventory, IItemFilter {
     oreIds.clear();
     oreIds.addAll(o.oreIds);
     isAdvanced = o.isAdvanced;
+    itemsChanged();
   }
 
   public ItemFilter() {
@@ -105,54 +115,77 @@ public class ItemFilter implements IInventory, IItemFilter {
     if(item == null) {
       return false;
     }
-    boolean doFuzzy = false;
-    boolean fuzzyValue = false;
-    if(fuzzyMode != FuzzyMode.DISABLED && item.getItem().isDamageable()) {
-      doFuzzy = true;
-      fuzzyValue = fuzzyMode.compare(item);
+    if(slotsByItem == null) {
+      compile();
     }
-    boolean matched = false;
-    int i = 0;
-    for (ItemStack it : items) {
-      if(it != null && Item.getIdFromItem(item.getItem()) == Item.getIdFromItem(it.getItem())) {
-        matched = true;
+    int[] slots = slotsByItem.get(item.getItem());
+    if(slots != null) {
+      boolean doFuzzy = false;
+      boolean fuzzyValue = false;
+      if(fuzzyMode != FuzzyMode.DISABLED && item.getItem().isDamageable()) {
+        doFuzzy = true;
+        fuzzyValue = fuzzyMode.compare(item);
+      }
+      for (int slot : slots) {
+        ItemStack it = items[slot];
         boolean fuzzyOk = doFuzzy && fuzzyMode.compare(it) == fuzzyValue;
         if(matchMeta && !fuzzyOk && item.getItemDamage() != it.getItemDamage()) {
-          matched = false;
-        } else if(matchNBT && !isNBTMatch(item, it)) {
-          matched = false;
+          continue;
         }
+        if(matchNBT && !isNBTMatch(item, it)) {
+          continue;
+        }
+        return true;
       }
-      if(!matched && useOreDict && isOreDicMatch(i, item)) {
-        matched = true;
-      }
-      if(matched) {
-        break;
-      }
-      i++;
     }
-    return matched;
+    return useOreDict && isOreDicMatch(item);
   }
 
-  private boolean isOreDicMatch(int filterItemIndex, ItemStack item) {
-    int[] ids1 = getCachedIds(filterItemIndex);
-    if(ids1 == null || ids1.length == 0) {
+  private boolean isOreDicMatch(ItemStack item) {
+    if(slotOreIds.isEmpty()) {
       return false;
     }
-    int[] ids2 = OreDictionary.getOreIDs(item);
-    if(ids2 == null || ids2.length == 0) {
+    int[] ids = OreDictionary.getOreIDs(item);
+    if(ids == null) {
       return false;
     }
-    for(int id1 : ids1) {
-      for(int id2 : ids2) {
-        if(id1 == id2) {
-          return true;
-        }
+    for (int id : ids) {
+      if(slotOreIds.contains(id)) {
+        return true;
       }
     }
     return false;
   }
 
+  private void compile() {
+    Map<Item, int[]> byItem = new HashMap<Item, int[]>();
+    Set<Integer> ores = new HashSet<Integer>();
+    for (int i = 0; i < items.length; i++) {
+      ItemStack it = items[i];
+      if(it == null || it.getItem() == null) {
+        continue;
+      }
+      int[] slots = byItem.get(it.getItem());
+      if(slots == null) {
+        slots = new int[] { i };
+      } else {
+        slots = Arrays.copyOf(slots, slots.length + 1);
+        slots[slots.length - 1] = i;
+      }
+      byItem.put(it.getItem(), slots);
+      for (int id : getCachedIds(i)) {
+        ores.add(id);
+      }
+    }
+    slotsByItem = byItem;
+    slotOreIds = ores;
+  }
+
+  private void itemsChanged() {
+    slotsByItem = null;
+    slotOreIds = null;
+  }
+
   private boolean isNBTMatch(ItemStack filter, ItemStack item)
   {
     if (filter.stackTagCompound == null && item.stackTagCompound == null) return true;
@@ -288,6 +321,7 @@ public class ItemFilter implements IInventory, IItemFilter {
     else if(numItems<5 && !isAdvanced) numItems = 5;
 
     items = new ItemStack[numItems];
+    itemsChanged();
     oreIds.clear();
     for(int i=0;i<numItems;i++) {
       oreIds.add(null);
@@ -331,6 +365,7 @@ public class ItemFilter implements IInventory, IItemFilter {
   @Override
   public ItemStack decrStackSize(int fromSlot, int amount) {
     oreIds.set(fromSlot, null);
+    itemsChanged();
     ItemStack item = items[fromSlot];
     items[fromSlot] = null;
     if(item == null) {
@@ -354,6 +389,7 @@ public class ItemFilter implements IInventory, IItemFilter {
       items[i] = null;
     }
     oreIds.set(i, null);
+    itemsChanged();
   }
 
   @Override
@@ -451,6 +487,8 @@ public class ItemFilter implements IInventory, IItemFilter {
         stack.stackSize = 1;
       }
       items[slot] = stack;
+      oreIds.set(slot, null);
+      itemsChanged();
       cb.run();
     }
 
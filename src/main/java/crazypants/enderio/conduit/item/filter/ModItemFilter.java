@@ -6,8 +6,11 @@ import crazypants.enderio.conduit.gui.item.ModItemFilterGui;
 import crazypants.enderio.conduit.item.IItemConduit;
 import io.netty.buffer.ByteBuf;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 
@@ -22,6 +25,10 @@ import crazypants.enderio.conduit.item.NetworkedInventory;
 
 public class ModItemFilter implements IItemFilter {
 
+  // item registrations don't change once the game is running
+  private static final Map<Item, String> modIdCache = new HashMap<Item, String>();
+  private static final String NO_MOD = "";
+
   private final String[] mods = new String[3];
   private boolean blacklist = false;
 
@@ -75,11 +82,10 @@ public class ModItemFilter implements IItemFilter {
     if(item == null || item.getItem() == null) {
       return false;
     }
-    UniqueIdentifier ui = GameRegistry.findUniqueIdentifierFor(item.getItem());
-    if(ui == null) {
+    String targetMod = getModId(item.getItem());
+    if(targetMod == NO_MOD) {
       return false;
     }
-    String targetMod = ui.modId;
     if (targetMod != null) {
       for (String mod : mods) {
         if (targetMod.equals(mod)) {
@@ -90,6 +96,18 @@ public class ModItemFilter implements IItemFilter {
     return blacklist;
   }
 
+  private static String getModId(Item item) {
+    String res = modIdCache.get(item);
+    if(res == null) {
+      UniqueIdentifier ui = GameRegistry.findUniqueIdentifierFor(item);
+      res = ui == null ? NO_MOD : ui.modId;
+      if(res != null) {
+        modIdCache.put(item, res);
+      }
+    }
+    return res;
+  }
+
   @Override
   public boolean doesFilterCaptureStack(NetworkedInventory inv, ItemStack item) {
     return false;
@@ -219,6 +219,8 @@ public abstract class AbstractLiquidConduit extends AbstractConduit implements I
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    extractionModes.clear();
+    extractionColors.clear();
 
     for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
       String key = "extRM." + dir.name();
@@ -81,7 +81,7 @@ public class AdvancedLiquidConduit extends AbstractTankConduit {
     }
     doExtract();
     if(stateDirty) {
-      getBundle().dirty();
+      getBundle().dirtyConduit(this);
       stateDirty = false;
     }
   }
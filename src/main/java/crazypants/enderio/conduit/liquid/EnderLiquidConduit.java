@@ -342,6 +342,7 @@ public class EnderLiquidConduit extends AbstractLiquidConduit {
   public void setOutputColor(ForgeDirection dir, DyeColor col) {
     outputColors.put(dir, col);
     if(network != null) {
+      network.outputColorChanged();
       network.notifyNetworkOfUpdate();
     }
     setClientStateDirty();
@@ -443,6 +444,10 @@ public class EnderLiquidConduit extends AbstractLiquidConduit {
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    inputFilters.clear();
+    outputFilters.clear();
+    inputColors.clear();
+    outputColors.clear();
     if(nbtRoot.hasKey("roundRobin")) {
       roundRobin = nbtRoot.getInteger("roundRobin");
     } else {
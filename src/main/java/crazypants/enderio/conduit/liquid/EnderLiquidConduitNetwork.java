@@ -2,12 +2,14 @@ package crazypants.enderio.conduit.liquid;
 
 import java.util.*;
 
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
 
 import com.enderio.core.common.util.BlockCoord;
+import com.enderio.core.common.util.DyeColor;
 
 import crazypants.enderio.conduit.AbstractConduitNetwork;
 import crazypants.enderio.conduit.ConnectionMode;
@@ -17,9 +19,14 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
   private class TankIterator implements Iterator<NetworkTank> {
     private int index = -1;
     private int currentCount = 0;
+    private List<NetworkTank> tanks;
 
-    public TankIterator start() {
+    public TankIterator start(List<NetworkTank> tanks) {
+      this.tanks = tanks;
       currentCount = 0;
+      if(index >= tanks.size()) {
+        index = tanks.size() - 1;
+      }
       return this;
     }
 
@@ -46,6 +53,8 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     }
 
     public void rewind() {
+      if (currentCount == 0)
+        return;
       if (index == 0)
         index = tanks.size() - 1;
       else
@@ -62,6 +71,13 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
 
   Map<NetworkTank, TankIterator> iterators;
 
+  // valid tanks that accept output, by output colour. Rebuilt when a
+  // connection or colour changes.
+  private Map<DyeColor, List<NetworkTank>> outputTanks;
+
+  private final Map<NetworkTank, FluidTankInfo[]> tankInfoCache = new HashMap<NetworkTank, FluidTankInfo[]>();
+  private long tankInfoCacheTime = -1;
+
   boolean filling;
 
   public EnderLiquidConduitNetwork() {
@@ -75,6 +91,31 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
     tankMap.remove(key);
     tanks.add(tank);
     tankMap.put(key, tank);
+    outputTanks = null;
+    tankInfoCache.clear();
+  }
+
+  void outputColorChanged() {
+    outputTanks = null;
+  }
+
+  private List<NetworkTank> getOutputTanks(DyeColor color) {
+    if(outputTanks == null) {
+      outputTanks = new EnumMap<DyeColor, List<NetworkTank>>(DyeColor.class);
+      for (NetworkTank target : tanks) {
+        if(target.acceptsOuput && target.isValid()) {
+          DyeColor col = target.con.getOutputColor(target.conDir);
+          List<NetworkTank> list = outputTanks.get(col);
+          if(list == null) {
+            list = new ArrayList<NetworkTank>();
+            outputTanks.put(col, list);
+          }
+          list.add(target);
+        }
+      }
+    }
+    List<NetworkTank> res = outputTanks.get(color);
+    return res == null ? Collections.<NetworkTank> emptyList() : res;
   }
 
   public boolean extractFrom(EnderLiquidConduit con, ForgeDirection conDir) {
@@ -129,9 +170,9 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
       //TODO: Only change starting pos of iterator is doFill is true so a false then true returns the same
 
       TankIterator iterator;
-      for (iterator = getIteratorForTank(tank).start(); iterator.hasNext(); ) {
+      for (iterator = getIteratorForTank(tank).start(getOutputTanks(tank.con.getInputColor(tank.conDir))); iterator.hasNext(); ) {
         NetworkTank target = iterator.next();
-        if (!target.equals(tank) && target.con.getOutputColor(target.conDir).equals(tank.con.getInputColor(tank.conDir)) && target.acceptsOuput && target.isValid() && matchedFilter(resource, target.con, target.conDir, false)) {
+        if (!target.equals(tank) && matchedFilter(resource, target.con, target.conDir, false)) {
           int vol = target.externalTank.fill(target.tankDir, resource.copy(), doFill);
           remaining -= vol;
           filled += vol;
@@ -174,8 +215,28 @@ public class EnderLiquidConduitNetwork extends AbstractConduitNetwork<ILiquidCon
   }
 
   public FluidTankInfo[] getTankInfo(EnderLiquidConduit con, ForgeDirection conDir) {
-    List<FluidTankInfo> res = new ArrayList<FluidTankInfo>(tanks.size());
     NetworkTank tank = getTank(con, conDir);
+    if(tank == null) {
+      return buildTankInfo(null);
+    }
+    // other mods' pumps and GUIs ask every tick, so the result is kept for the
+    // rest of the tick
+    World world = con.getBundle().getWorld();
+    long time = world == null ? -1 : world.getTotalWorldTime();
+    if(time != tankInfoCacheTime) {
+      tankInfoCache.clear();
+      tankInfoCacheTime = time;
+    }
+    FluidTankInfo[] res = tankInfoCache.get(tank);
+    if(res == null) {
+      res = buildTankInfo(tank);
+      tankInfoCache.put(tank, res);
+    }
+    return res;
+  }
+
+  private FluidTankInfo[] buildTankInfo(NetworkTank tank) {
+    List<FluidTankInfo> res = new ArrayList<FluidTankInfo>(tanks.size());
     for (NetworkTank target : tanks) {
       if(!target.equals(tank) && target.isValid()) {
         FluidTankInfo[] tTanks = target.externalTank.getTankInfo(target.tankDir);
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
@@ -97,18 +98,24 @@ public class LiquidConduit extends AbstractTankConduit {
     updateStartPushDir();
     doExtract();
 
+    // when pooled the tank only shows the conduit's share of the network, it
+    // is only brought up to date when it is sent to clients or saved
+    boolean pooled = network != null && network.isPooled();
     if(stateDirty) {
-      getBundle().dirty();
+      getBundle().dirtyConduit(this);
       stateDirty = false;
-      lastSyncRatio = tank.getFilledRatio();
+      lastSyncRatio = pooled ? network.getPooledFilledRatio() : tank.getFilledRatio();
 
-    } else if((lastSyncRatio != tank.getFilledRatio() && world.getTotalWorldTime() % 2 == 0)) {
+    } else if(world.getTotalWorldTime() % 2 == 0 && lastSyncRatio != (pooled ? network.getPooledFilledRatio() : tank.getFilledRatio())) {
 
       //need to send a custom packet as we don't want want to trigger a full chunk update, just
       //need to get the required  values to the entity renderer
+      if(pooled) {
+        network.updateTankFromPool(this);
+      }
       BlockCoord loc = getLocation();
       PacketHandler.INSTANCE.sendToAllAround(new PacketFluidLevel(this), new TargetPoint(world.provider.dimensionId, loc.x, loc.y, loc.z, 64));
-      lastSyncRatio = tank.getFilledRatio();
+      lastSyncRatio = pooled ? network.getPooledFilledRatio() : tank.getFilledRatio();
     }
   }
 
@@ -247,6 +254,9 @@ public class LiquidConduit extends AbstractTankConduit {
       return 0;
     }
     currentPushToken = token;
+    if(network.isPooled()) {
+      return network.fillPool(pushStack, doPush);
+    }
     int pushed = 0;
     int total = pushStack.amount;
 
@@ -294,6 +304,9 @@ public class LiquidConduit extends AbstractTankConduit {
     if(getConnectionMode(from) == ConnectionMode.INPUT || getConnectionMode(from) == ConnectionMode.DISABLED) {
       return null;
     }
+    if(network != null && network.isPooled()) {
+      return network.drainPool(maxDrain, doDrain);
+    }
     return tank.drain(maxDrain, doDrain);
   }
 
@@ -330,6 +343,9 @@ public class LiquidConduit extends AbstractTankConduit {
 
   @Override
   public FluidTankInfo[] getTankInfo(ForgeDirection from) {
+    if(network != null && network.isPooled()) {
+      network.updateTankFromPool(this);
+    }
     return new FluidTankInfo[] { tank.getInfo() };
   }
 
@@ -339,6 +355,33 @@ public class LiquidConduit extends AbstractTankConduit {
   public void connectionsChanged() {
     super.connectionsChanged();
     updateTank();
+    if(network != null) {
+      network.conduitsChanged();
+    }
+  }
+
+  @Override
+  public void externalConnectionAdded(ForgeDirection fromDirection) {
+    super.externalConnectionAdded(fromDirection);
+    if(network != null) {
+      network.conduitsChanged();
+    }
+  }
+
+  @Override
+  public void externalConnectionRemoved(ForgeDirection fromDirection) {
+    super.externalConnectionRemoved(fromDirection);
+    if(network != null) {
+      network.conduitsChanged();
+    }
+  }
+
+  @Override
+  public void writeToNBT(NBTTagCompound nbtRoot) {
+    if(network != null && network.isPooled()) {
+      network.updateTankFromPool(this);
+    }
+    super.writeToNBT(nbtRoot);
   }
 
   @Override
@@ -12,6 +12,7 @@ import net.minecraftforge.fluids.IFluidHandler;
 import com.enderio.core.common.util.BlockCoord;
 
 import crazypants.enderio.conduit.ConduitUtil;
+import crazypants.enderio.config.Config;
 
 public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidConduit> {
 
@@ -34,6 +35,14 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
 
   private boolean inputLocked = false;
 
+  // When pooled the network's fluid is held here and the conduit tanks only
+  // show their share of it. They are updated when synced, saved or when the
+  // network is destroyed.
+  private final boolean pooled = Config.fluidConduitPooledFlow;
+  private int pooledAmount;
+  private int pooledCapacity = -1;
+  private List<PooledOutput> pooledOutputs;
+
   public boolean lockNetworkForFill() {
     if(inputLocked) {
       return false;
@@ -46,6 +55,42 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
     inputLocked = false;
   }
 
+  @Override
+  public void addConduit(LiquidConduit con) {
+    int size = conduits.size();
+    super.addConduit(con);
+    if(pooled && conduits.size() > size) {
+      pooledAmount += con.getTank().getFluidAmount();
+      conduitsChanged();
+    }
+  }
+
+  @Override
+  public void destroyNetwork() {
+    if(pooled) {
+      distributePool();
+    }
+    super.destroyNetwork();
+  }
+
+  @Override
+  public boolean setFluidType(FluidStack newType) {
+    boolean changed = super.setFluidType(newType);
+    if(changed && pooled) {
+      // the conduit tanks are emptied when the type changes
+      pooledAmount = 0;
+    }
+    return changed;
+  }
+
+  @Override
+  public int getTotalVolume() {
+    if(pooled) {
+      return pooledAmount;
+    }
+    return super.getTotalVolume();
+  }
+
   @Override
   public void doNetworkTick() {
     List<LiquidConduit> cons = getConduits();
@@ -72,7 +117,7 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
       int visc = Math.max(1000, liquidType.getFluid().getViscosity());
       if(curTime % (visc / 500) == 0) {
         long start = System.nanoTime();
-        if(doFlow() && printFlowTiming) {
+        if((pooled ? doPooledFlow() : doFlow()) && printFlowTiming) {
           long took = System.nanoTime() - start;
           double secs = took / 1000000000.0;
           System.out.println("LiquidConduitNetwork.onUpdateEntity: took " + secs + " secs, " + (secs * 1000) + " millis");
@@ -160,6 +205,9 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
   }
 
   private boolean isEmpty() {
+    if(pooled) {
+      return pooledAmount <= 0;
+    }
     for (LiquidConduit con : conduits) {
       if(con.tank.getFluidAmount() > 0) {
         return false;
@@ -168,6 +216,139 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
     return true;
   }
 
+  boolean isPooled() {
+    return pooled;
+  }
+
+  /**
+   * Called when the connections of a conduit changed, so its capacity or
+   * outputs may have.
+   */
+  void conduitsChanged() {
+    pooledCapacity = -1;
+    pooledOutputs = null;
+  }
+
+  private int getPooledCapacity() {
+    if(pooledCapacity < 0) {
+      pooledCapacity = 0;
+      for (LiquidConduit con : conduits) {
+        pooledCapacity += con.getTank().getCapacity();
+      }
+      pooledAmount = Math.min(pooledAmount, pooledCapacity);
+    }
+    return pooledCapacity;
+  }
+
+  int fillPool(FluidStack resource, boolean doFill) {
+    int filled = Math.max(0, Math.min(resource.amount, getPooledCapacity() - pooledAmount));
+    if(doFill) {
+      pooledAmount += filled;
+    }
+    return filled;
+  }
+
+  FluidStack drainPool(int maxDrain, boolean doDrain) {
+    if(liquidType == null || pooledAmount <= 0 || maxDrain <= 0) {
+      return null;
+    }
+    FluidStack res = liquidType.copy();
+    res.amount = Math.min(maxDrain, pooledAmount);
+    if(doDrain) {
+      pooledAmount -= res.amount;
+    }
+    return res;
+  }
+
+  /**
+   * How full every conduit's tank is when pooled, without updating the tanks.
+   */
+  float getPooledFilledRatio() {
+    int capacity = getPooledCapacity();
+    if(pooledAmount <= 0) {
+      return 0;
+    }
+    if(capacity <= 0) {
+      return -1;
+    }
+    return (float) pooledAmount / capacity;
+  }
+
+  /**
+   * Sets the conduit's tank to its share of the pool, for rendering and saving.
+   */
+  void updateTankFromPool(LiquidConduit con) {
+    int capacity = getPooledCapacity();
+    ConduitTank tank = con.getTank();
+    tank.setAmount(capacity <= 0 ? 0 : (int) ((long) pooledAmount * tank.getCapacity() / capacity));
+  }
+
+  private void distributePool() {
+    int remaining = pooledAmount;
+    for (LiquidConduit con : conduits) {
+      updateTankFromPool(con);
+      remaining -= con.getTank().getFluidAmount();
+    }
+    // rounding leftovers
+    for (LiquidConduit con : conduits) {
+      if(remaining <= 0) {
+        break;
+      }
+      int add = Math.min(remaining, con.getTank().getAvailableSpace());
+      con.getTank().addAmount(add);
+      remaining -= add;
+    }
+  }
+
+  private boolean doPooledFlow() {
+    if(pooledOutputs == null) {
+      pooledOutputs = new ArrayList<PooledOutput>();
+      for (LiquidConduit con : conduits) {
+        for (ForgeDirection dir : con.getExternalConnections()) {
+          pooledOutputs.add(new PooledOutput(con, dir));
+        }
+      }
+    }
+
+    FluidStack available = liquidType.copy();
+    available.amount = Math.min(pooledAmount, LiquidConduit.MAX_IO_PER_TICK);
+    int totalRequested = 0;
+    int numRequests = 0;
+    for (PooledOutput out : pooledOutputs) {
+      IFluidHandler extCon = out.getHandler();
+      if(extCon != null) {
+        int amount = extCon.fill(out.dir.getOpposite(), available.copy(), false);
+        if(amount > 0) {
+          totalRequested += amount;
+          numRequests++;
+        }
+      }
+    }
+    if(numRequests == 0) {
+      return false;
+    }
+
+    FluidStack requestSource = liquidType.copy();
+    requestSource.amount = Math.max(1, Math.min(pooledAmount, totalRequested) / numRequests);
+    boolean result = false;
+    for (PooledOutput out : pooledOutputs) {
+      if(pooledAmount <= 0) {
+        break;
+      }
+      IFluidHandler extCon = out.getHandler();
+      if(extCon != null) {
+        requestSource.amount = Math.min(requestSource.amount, pooledAmount);
+        int amount = extCon.fill(out.dir.getOpposite(), requestSource.copy(), true);
+        if(amount > 0) {
+          outputedToExternal(amount);
+          pooledAmount -= amount;
+          result = true;
+        }
+      }
+    }
+    return result;
+  }
+
   private void drainConduitToNearestExternal(LiquidConduit con, List<LocatedFluidHandler> externals) {
     BlockCoord conLoc = con.getLocation();
     FluidStack toDrain = con.getTank().getFluid();
@@ -352,6 +533,21 @@ public class LiquidConduitNetwork extends AbstractTankConduitNetwork<LiquidCondu
 
   }
 
+  static class PooledOutput {
+    final LiquidConduit con;
+    final ForgeDirection dir;
+
+    PooledOutput(LiquidConduit con, ForgeDirection dir) {
+      this.con = con;
+      this.dir = dir;
+    }
+
+    IFluidHandler getHandler() {
+      // redstone control can change this at any time
+      return con.canOutputToDir(dir) ? con.getExternalHandler(dir) : null;
+    }
+  }
+
   static class LocatedFluidHandler {
     final IFluidHandler tank;
     final BlockCoord bc;
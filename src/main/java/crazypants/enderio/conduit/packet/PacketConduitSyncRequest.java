@@ -0,0 +1,43 @@
+package crazypants.enderio.conduit.packet;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.Packet;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import crazypants.enderio.conduit.TileConduitBundle;
+
+/**
+ * Sent by a client that missed a {@link PacketConduitUpdate}, the server
+ * answers with a full description of the bundle for that player only.
+ */
+public class PacketConduitSyncRequest extends AbstractConduitBundlePacket implements IMessageHandler<PacketConduitSyncRequest, IMessage> {
+
+  public PacketConduitSyncRequest() {
+  }
+
+  public PacketConduitSyncRequest(TileConduitBundle bundle) {
+    super(bundle);
+  }
+
+  @Override
+  public IMessage onMessage(PacketConduitSyncRequest message, MessageContext ctx) {
+    EntityPlayerMP player = ctx.getServerHandler().playerEntity;
+    // only answer for bundles the player already gets updates for, the full
+    // description includes filters and upgrades
+    if(!player.worldObj.blockExists(message.x, message.y, message.z) || !(player.worldObj instanceof WorldServer)
+        || !((WorldServer) player.worldObj).getPlayerManager().isPlayerWatchingChunk(player, message.x >> 4, message.z >> 4)) {
+      return null;
+    }
+    TileEntity te = player.worldObj.getTileEntity(message.x, message.y, message.z);
+    if(te instanceof TileConduitBundle) {
+      Packet pkt = te.getDescriptionPacket();
+      if(pkt != null) {
+        player.playerNetServerHandler.sendPacket(pkt);
+      }
+    }
+    return null;
+  }
+}
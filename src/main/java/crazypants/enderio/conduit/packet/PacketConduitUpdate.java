@@ -0,0 +1,59 @@
+package crazypants.enderio.conduit.packet;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import crazypants.enderio.EnderIO;
+import crazypants.enderio.conduit.ConduitUtil;
+import crazypants.enderio.conduit.IConduit;
+import crazypants.enderio.conduit.TileConduitBundle;
+
+/**
+ * Syncs a single conduit of a bundle to the client, instead of resending the
+ * whole bundle. Numbered so the client can tell when it missed one.
+ */
+public class PacketConduitUpdate extends AbstractConduitBundlePacket implements IMessageHandler<PacketConduitUpdate, IMessage> {
+
+  private int seq;
+  private NBTTagCompound conduitRoot;
+
+  public PacketConduitUpdate() {
+  }
+
+  public PacketConduitUpdate(TileConduitBundle bundle, IConduit conduit, int seq) {
+    super(bundle);
+    this.seq = seq;
+    conduitRoot = new NBTTagCompound();
+    ConduitUtil.writeToNBT(conduit, conduitRoot);
+  }
+
+  @Override
+  public void toBytes(ByteBuf buf) {
+    super.toBytes(buf);
+    buf.writeInt(seq);
+    ByteBufUtils.writeTag(buf, conduitRoot);
+  }
+
+  @Override
+  public void fromBytes(ByteBuf buf) {
+    super.fromBytes(buf);
+    seq = buf.readInt();
+    conduitRoot = ByteBufUtils.readTag(buf);
+  }
+
+  @Override
+  public IMessage onMessage(PacketConduitUpdate message, MessageContext ctx) {
+    TileEntity te = message.getTileEntity(EnderIO.proxy.getClientWorld());
+    if(te instanceof TileConduitBundle && message.conduitRoot != null) {
+      TileConduitBundle bundle = (TileConduitBundle) te;
+      if(!bundle.readConduitUpdate(message.seq, message.conduitRoot)) {
+        bundle.requestFullSync();
+      }
+    }
+    return null;
+  }
+}
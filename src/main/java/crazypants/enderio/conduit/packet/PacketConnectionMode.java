@@ -49,7 +49,7 @@ public class PacketConnectionMode extends AbstractConduitPacket<IConduit> implem
     } else {
       conduit.setConnectionMode(message.dir, message.mode);
     }
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
@@ -45,9 +45,13 @@ public class PacketExtractMode extends AbstractConduitPacket<IExtractor> impleme
 
   @Override
   public IMessage onMessage(PacketExtractMode message, MessageContext ctx) {
-    message.getTileCasted(ctx).setExtractionRedstoneMode(message.mode, message.dir);
-    message.getTileCasted(ctx).setExtractionSignalColor(message.dir, message.color);
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    IExtractor conduit = message.getTileCasted(ctx);
+    if(conduit == null) {
+      return null;
+    }
+    conduit.setExtractionRedstoneMode(message.mode, message.dir);
+    conduit.setExtractionSignalColor(message.dir, message.color);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
@@ -77,7 +77,7 @@ public class PacketItemConduitFilter extends AbstractConduitPacket<IItemConduit>
     applyFilter(message.dir, conduit, message.inputFilter, true);
     applyFilter(message.dir, conduit, message.outputFilter, false);
 
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
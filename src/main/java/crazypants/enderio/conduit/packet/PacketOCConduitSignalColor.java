@@ -42,8 +42,12 @@ public class PacketOCConduitSignalColor extends AbstractConduitPacket<IOCConduit
 
   @Override
   public IMessage onMessage(PacketOCConduitSignalColor message, MessageContext ctx) {
-    message.getTileCasted(ctx).setSignalColor(message.dir, message.col);
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    IOCConduit conduit = message.getTileCasted(ctx);
+    if(conduit == null) {
+      return null;
+    }
+    conduit.setSignalColor(message.dir, message.col);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
@@ -40,8 +40,12 @@ public class PacketRedstoneConduitSignalColor extends AbstractConduitPacket<IIns
 
   @Override
   public IMessage onMessage(PacketRedstoneConduitSignalColor message, MessageContext ctx) {
-    message.getTileCasted(ctx).setSignalColor(message.dir, message.col);
-    message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+    IInsulatedRedstoneConduit conduit = message.getTileCasted(ctx);
+    if(conduit == null) {
+      return null;
+    }
+    conduit.setSignalColor(message.dir, message.col);
+    conduit.getBundle().dirtyConduit(conduit);
     return null;
   }
 
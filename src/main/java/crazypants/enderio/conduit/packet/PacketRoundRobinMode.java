@@ -40,7 +40,7 @@ public class PacketRoundRobinMode extends AbstractConduitPacket<ILiquidConduit>
         final ILiquidConduit conduit = message.getTileCasted(ctx);
         if (conduit instanceof EnderLiquidConduit) {
             ((EnderLiquidConduit) conduit).setRoundRobin(message.dir, message.roundRobin);
-            message.getWorld(ctx).markBlockForUpdate(message.x, message.y, message.z);
+            conduit.getBundle().dirtyConduit(conduit);
         }
         return null;
     }
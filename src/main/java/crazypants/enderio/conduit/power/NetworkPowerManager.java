@@ -41,6 +41,8 @@ public class NetworkPowerManager {
 
   private final CapBankSupply capSupply = new CapBankSupply();
 
+  private long tickCount;
+
   public NetworkPowerManager(PowerConduitNetwork netowrk, World world) {
     network = netowrk;
     maxEnergyStored = 64;
@@ -127,6 +129,8 @@ public class NetworkPowerManager {
 
   public void doApplyRecievedPower() {
 
+    tickCount++;
+
     trackerStartTick();
 
     checkReceptors();
@@ -155,10 +159,11 @@ public class NetworkPowerManager {
       }
       ReceptorEntry r = receptorIterator.next();
       IPowerInterface pp = r.powerInterface;
-      if(pp != null) {
+      if(pp != null && r.nextOfferTick <= tickCount) {
         int canOffer = Math.min(r.emmiter.getMaxEnergyExtracted(r.direction), available);
         int used = pp.recieveEnergy(r.direction.getOpposite(), canOffer);
         used = Math.max(0, used);
+        updateDemand(r, canOffer, used);
         trackerSend(r.emmiter, used, false);
         available -= used;
         if(available <= 0) {
@@ -200,6 +205,20 @@ public class NetworkPowerManager {
     networkPowerTracker.tickEnd(energyStored);
   }
 
+  /**
+   * Receptors that refuse energy are skipped for 1, 2, 4... ticks, up to the
+   * configured maximum, so full machines don't cost anything every tick.
+   */
+  private void updateDemand(ReceptorEntry r, int offered, int used) {
+    if(used > 0 || offered <= 0 || Config.powerConduitMaxBackoffTicks <= 0) {
+      r.backoff = 0;
+      r.nextOfferTick = 0;
+    } else {
+      r.backoff = r.backoff == 0 ? 1 : Math.min(r.backoff * 2, Config.powerConduitMaxBackoffTicks);
+      r.nextOfferTick = tickCount + r.backoff;
+    }
+  }
+
   private void trackerStartTick() {
 
     if(!Config.detailedPowerTrackingEnabled) {
@@ -309,6 +328,9 @@ public class NetworkPowerManager {
     receptors.clear();
     storageReceptors.clear();
     for (ReceptorEntry rec : network.getPowerReceptors()) {
+      // something changed next to the network, give everything a fresh chance
+      rec.backoff = 0;
+      rec.nextOfferTick = 0;
       if(rec.powerInterface.getDelegate() != null &&
           rec.powerInterface.getDelegate() instanceof IPowerStorage) {
         storageReceptors.add(rec);
@@ -236,6 +236,8 @@ public class PowerConduit extends AbstractConduit implements IPowerConduit {
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    rsModes.clear();
+    rsColors.clear();
     subtype = nbtRoot.getShort("subtype");
 
     if(nbtRoot.hasKey("energyStored")) {
@@ -114,6 +114,10 @@ public class PowerConduitNetwork extends AbstractConduitNetwork<IPowerConduit, I
 
     IPowerInterface powerInterface;
 
+    // back-off for receptors that refuse energy, see NetworkPowerManager
+    int backoff;
+    long nextOfferTick;
+
     public ReceptorEntry(IPowerInterface powerReceptor, BlockCoord coord, IPowerConduit emmiter, ForgeDirection direction) {
       powerInterface = powerReceptor;
       this.coord = coord;
@@ -251,6 +251,8 @@ public class PowerConduitEndergy extends PowerConduit {
   @Override
   public void readFromNBT(NBTTagCompound nbtRoot, short nbtVersion) {
     super.readFromNBT(nbtRoot, nbtVersion);
+    rsModes.clear();
+    rsColors.clear();
     subtype = nbtRoot.getShort("subtype");
 
     if(nbtRoot.hasKey("energyStored")) {
@@ -10,13 +10,17 @@ import java.util.Set;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
 
 import com.enderio.core.common.util.BlockCoord;
 import com.google.common.collect.Sets;
 
 import crazypants.enderio.EnderIO;
 import crazypants.enderio.conduit.AbstractConduitNetwork;
+import crazypants.enderio.conduit.ConduitNetworkTickHandler;
+import crazypants.enderio.conduit.ConduitNetworkTickHandler.TickListener;
 import crazypants.enderio.conduit.IConduitBundle;
+import crazypants.enderio.config.Config;
 
 public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneConduit, IRedstoneConduit> {
 
@@ -26,6 +30,13 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
 
   private boolean networkEnabled = true;
 
+  // signals as they were before the first batched change of this tick, null
+  // if no update is pending
+  private Set<Signal> signalsBeforeUpdate;
+  private boolean forceUpdate;
+  private boolean destroyed;
+  private final TickListener updateListener = new UpdateListener();
+
   public RedstoneConduitNetwork() {
     super(IRedstoneConduit.class, IRedstoneConduit.class);
   }
@@ -40,6 +51,11 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
 
   @Override
   public void destroyNetwork() {
+    // everything gets notified below anyway
+    ConduitNetworkTickHandler.instance.removeListener(updateListener);
+    signalsBeforeUpdate = null;
+    forceUpdate = false;
+    destroyed = true;
     updatingNetwork = true;
     for (IRedstoneConduit con : conduits) {
       con.setActive(false);
@@ -97,6 +113,11 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void addSignal(Signal signal) {
+    if(Config.redstoneConduitBatchUpdates) {
+      queueUpdate(false);
+      signals.add(signal);
+      return;
+    }
     updatingNetwork = true;
     signals.add(signal);
     notifyNetworkOfUpdate();
@@ -111,6 +132,11 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void removeSignal(Signal signal) {
+    if(Config.redstoneConduitBatchUpdates) {
+      queueUpdate(false);
+      signals.remove(signal);
+      return;
+    }
     updatingNetwork = true;
     signals.remove(signal);
     notifyNetworkOfUpdate();
@@ -119,6 +145,12 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void replaceSignal(Signal oldSig, Signal newSig) {
+    if(Config.redstoneConduitBatchUpdates) {
+      queueUpdate(false);
+      signals.remove(oldSig);
+      signals.add(newSig);
+      return;
+    }
     updatingNetwork = true;
     signals.remove(oldSig);
     signals.add(newSig);
@@ -167,6 +199,12 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
   }
 
   public void notifyNeigborsOfSignals() {
+    if(Config.redstoneConduitBatchUpdates) {
+      if(!signals.isEmpty()) {
+        queueUpdate(true);
+      }
+      return;
+    }
     for (Signal signal : signals) {
       notifyNeigborsOfSignalUpdate(signal);
     }
@@ -179,6 +217,94 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
     }
   }
 
+  private void queueUpdate(boolean force) {
+    if(destroyed) {
+      return;
+    }
+    if(signalsBeforeUpdate == null) {
+      signalsBeforeUpdate = new HashSet<Signal>(signals);
+      ConduitNetworkTickHandler.instance.addListener(updateListener);
+    }
+    forceUpdate |= force;
+  }
+
+  /**
+   * Sends out the updates queued during this tick: every block around the
+   * network is notified once, no matter how many signals changed, and nothing
+   * is sent if the signals ended up the same as they were.
+   */
+  private void flushUpdates() {
+    if(signalsBeforeUpdate == null) {
+      return;
+    }
+    boolean changed = forceUpdate || !signalsBeforeUpdate.equals(signals);
+    signalsBeforeUpdate = null;
+    forceUpdate = false;
+    if(!changed || destroyed) {
+      return;
+    }
+
+    updatingNetwork = true;
+    notifyNetworkOfUpdate();
+    Set<BlockCoord> toNotify = new HashSet<BlockCoord>();
+    for (IRedstoneConduit con : new ArrayList<IRedstoneConduit>(conduits)) {
+      collectNeighbours(con, toNotify);
+    }
+    World worldObj = null;
+    for (IRedstoneConduit con : conduits) {
+      if(con.getBundle() != null) {
+        worldObj = con.getBundle().getWorld();
+        break;
+      }
+    }
+    if(worldObj != null) {
+      for (BlockCoord bc : toNotify) {
+        worldObj.notifyBlockOfNeighborChange(bc.x, bc.y, bc.z, EnderIO.blockConduitBundle);
+      }
+    }
+    updatingNetwork = false;
+  }
+
+  private void collectNeighbours(IRedstoneConduit con, Set<BlockCoord> result) {
+    if(con.getBundle() == null) {
+      return;
+    }
+    TileEntity te = con.getBundle().getEntity();
+    World worldObj = te.getWorldObj();
+    BlockCoord bc1 = new BlockCoord(te);
+    if(!worldObj.blockExists(te.xCoord, te.yCoord, te.zCoord)) {
+      return;
+    }
+    for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+      BlockCoord bc2 = bc1.getLocation(dir);
+      // air has nothing to update
+      if(worldObj.blockExists(bc2.x, bc2.y, bc2.z) && !worldObj.isAirBlock(bc2.x, bc2.y, bc2.z)) {
+        result.add(bc2);
+        if(bc2.getBlock(worldObj).isNormalCube()) {
+          for (ForgeDirection dir2 : ForgeDirection.VALID_DIRECTIONS) {
+            BlockCoord bc3 = bc2.getLocation(dir2);
+            if(!bc3.equals(bc1) && worldObj.blockExists(bc3.x, bc3.y, bc3.z) && !worldObj.isAirBlock(bc3.x, bc3.y, bc3.z)) {
+              result.add(bc3);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private class UpdateListener implements TickListener {
+
+    @Override
+    public void tickStart(ServerTickEvent evt) {
+    }
+
+    @Override
+    public void tickEnd(ServerTickEvent evt) {
+      flushUpdates();
+    }
+
+  }
+
   private void notifyConduitNeighbours(IRedstoneConduit con, Signal signal) {
     if (con.getBundle() == null) {
       System.out.println("RedstoneConduitNetwork.notifyNeigborsOfSignalUpdate: NULL BUNDLE!!!!");
@@ -228,6 +354,7 @@ public class RedstoneConduitNetwork extends AbstractConduitNetwork<IRedstoneCond
       BlockCoord loc = c.getLocation();
       if (world.blockExists(loc.x, loc.y, loc.z)) {
         this.conduits.add(c);
+        this.conduitSet.add(c);
         c.setNetwork(this);
       }
     }
@@ -118,6 +118,13 @@ public final class Config {
   public static int     yetaWrenchOverlayMode = 0;
 
   public static boolean itemConduitUsePhyscialDistance = false;
+  public static boolean itemConduitSparseExtraction = true;
+  public static int conduitNetworkTickBudgetMicros = 20000;
+  public static int powerConduitMaxBackoffTicks = 20;
+  public static boolean redstoneConduitBatchUpdates = true;
+  public static int capBankMaxBackoffTicks = 20;
+  public static boolean conduitDeltaSync = true;
+  public static boolean sharedEntityQueries = true;
 
   public static int enderFluidConduitExtractRate = 200;
   public static int enderFluidConduitMaxIoRate = 800;
@@ -125,6 +132,7 @@ public final class Config {
   public static int advancedFluidConduitMaxIoRate = 400;
   public static int fluidConduitExtractRate = 50;
   public static int fluidConduitMaxIoRate = 200;
+  public static boolean fluidConduitPooledFlow = false;
 
   public static int gasConduitExtractRate = 200;
   public static int gasConduitMaxIoRate = 800;
@@ -394,6 +402,7 @@ public final class Config {
   public static int painterEnergyPerTaskRF = 2000;
 
   public static int vacuumChestRange = 6;
+  public static boolean vacuumChestItemEvents = true;
 
   public static boolean useModMetals = true;
 
@@ -527,6 +536,7 @@ public final class Config {
   public static float inventoryPanelScanCostPerSlot = 0.1f;
   public static float inventoryPanelExtractCostPerItem = 12.0f;
   public static float inventoryPanelExtractCostPerOperation = 32.0f;
+  public static int inventoryPanelIdleScanFactor = 4;
 
 
 
@@ -699,6 +709,10 @@ public final class Config {
     fluidConduitMaxIoRate = config.get(sectionEfficiency.name, "fluidConduitMaxIoRate", fluidConduitMaxIoRate,
         "Number of millibuckets per tick that can pass through a single connection to a fluid conduit.").getInt(fluidConduitMaxIoRate);
 
+    fluidConduitPooledFlow = config.get(sectionEfficiency.name, "fluidConduitPooledFlow", fluidConduitPooledFlow,
+        "When true a fluid conduit network holds its fluid as a single pool and outputs directly from it, instead of " +
+        "simulating flow from conduit to conduit. Much faster on long pipes, but fluid no longer flows downhill first.").getBoolean(fluidConduitPooledFlow);
+
     advancedFluidConduitExtractRate = config.get(sectionEfficiency.name, "advancedFluidConduitExtractRate", advancedFluidConduitExtractRate,
         "Number of millibuckets per tick extracted by pressurized fluid conduits auto extracting").getInt(advancedFluidConduitExtractRate);
 
@@ -764,7 +778,37 @@ public final class Config {
         "'line of sight' distance rather than conduit path distance is used to calculate priorities.")
         .getBoolean(itemConduitUsePhyscialDistance);
 
+    itemConduitSparseExtraction = config.get(sectionEfficiency.name, "itemConduitSparseExtraction", itemConduitSparseExtraction, "If true, " +
+        "item conduits remember which slots they could not extract from and skip them until their contents change.")
+        .getBoolean(itemConduitSparseExtraction);
+
+    conduitNetworkTickBudgetMicros = config.get(sectionEfficiency.name, "conduitNetworkTickBudgetMicros", conduitNetworkTickBudgetMicros,
+        "Maximum time in microseconds spent ticking conduit networks per server tick. Networks that don't get their turn " +
+        "are ticked first on the next tick. Set to 0 to disable.").getInt(conduitNetworkTickBudgetMicros);
+
+    powerConduitMaxBackoffTicks = config.get(sectionEfficiency.name, "powerConduitMaxBackoffTicks", powerConduitMaxBackoffTicks,
+        "Power conduits skip machines that refused energy for an increasing number of ticks, up to this maximum. " +
+        "Set to 0 to offer energy to every machine every tick.").getInt(powerConduitMaxBackoffTicks);
+
+    capBankMaxBackoffTicks = config.get(sectionEfficiency.name, "capBankMaxBackoffTicks", capBankMaxBackoffTicks,
+        "Capacitor banks skip machines and items that refused energy for an increasing number of ticks, up to this maximum. " +
+        "Set to 0 to offer energy to everything every tick.").getInt(capBankMaxBackoffTicks);
+
+    redstoneConduitBatchUpdates = config.get(sectionEfficiency.name, "redstoneConduitBatchUpdates", redstoneConduitBatchUpdates,
+        "When true redstone conduits collect signal changes and update the blocks around them once at the end of the tick, " +
+        "instead of once per changed signal.").getBoolean(redstoneConduitBatchUpdates);
+
+    conduitDeltaSync = config.get(sectionEfficiency.name, "conduitDeltaSync", conduitDeltaSync,
+        "When true a change to a single conduit only sends that conduit to clients, instead of the whole conduit bundle.").getBoolean(conduitDeltaSync);
+
+    sharedEntityQueries = config.get(sectionEfficiency.name, "sharedEntityQueries", sharedEntityQueries,
+        "When true machines that look for entities around them, like the Killer Joe, Attractor and Vacuum Chest, share one " +
+        "pass over the entities in each chunk per tick.").getBoolean(sharedEntityQueries);
+
     vacuumChestRange = config.get(sectionEfficiency.name, "vacumChestRange", vacuumChestRange, "The range of the vacuum chest").getInt(vacuumChestRange);
+    vacuumChestItemEvents = config.get(sectionEfficiency.name, "vacuumChestItemEvents", vacuumChestItemEvents,
+        "When true vacuum chests are told about items as they spawn or move between chunks, instead of searching their " +
+        "whole range every tick.").getBoolean(vacuumChestItemEvents);
 
     reinforcedObsidianEnabled = config.get(sectionItems.name, "reinforcedObsidianEnabled", reinforcedObsidianEnabled,
         "When set to false reinforced obsidian is not craftable.").getBoolean(reinforcedObsidianEnabled);
@@ -1419,6 +1463,8 @@ public final class Config {
         "Internal power used per item extracted (not a stack of items)");
     inventoryPanelExtractCostPerOperation = config.getFloat("extractCostPerOperation", sectionInventoryPanel.name, inventoryPanelExtractCostPerOperation, 0.0f,
         10000.0f, "Internal power used per extract operation (independent of stack size)");
+    inventoryPanelIdleScanFactor = config.getInt("idleScanFactor", sectionInventoryPanel.name, inventoryPanelIdleScanFactor, 1, 20,
+        "Inventories that item conduits just inserted into or extracted from are rescanned first. This is how much slower the background rescan of all other inventories is.");
   }
 
   public static void checkYetaAccess() {
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityClientPlayerMP;
@@ -44,14 +45,11 @@ import crazypants.enderio.EnderIO;
 import crazypants.enderio.config.Config;
 import crazypants.enderio.item.darksteel.PacketUpgradeState.Type;
 import crazypants.enderio.item.darksteel.upgrade.EnergyUpgrade;
-import crazypants.enderio.item.darksteel.upgrade.GliderUpgrade;
 import crazypants.enderio.item.darksteel.upgrade.IDarkSteelUpgrade;
 import crazypants.enderio.item.darksteel.upgrade.IRenderUpgrade;
 import crazypants.enderio.item.darksteel.upgrade.JumpUpgrade;
-import crazypants.enderio.item.darksteel.upgrade.NightVisionUpgrade;
 import crazypants.enderio.item.darksteel.upgrade.SolarUpgrade;
 import crazypants.enderio.item.darksteel.upgrade.SpeedUpgrade;
-import crazypants.enderio.item.darksteel.upgrade.SwimUpgrade;
 import crazypants.enderio.machine.solar.TileEntitySolarPanel;
 import crazypants.enderio.network.PacketHandler;
 
@@ -82,6 +80,11 @@ public class DarkSteelController {
 
   private final Map<UUID, EnumSet<Type>> allActive = new HashMap<UUID, EnumSet<Type>>();
 
+  // one map per side: in single player the client and server player share an
+  // entity id, and so would share an entry, but hold different stacks
+  private final Map<EntityPlayer, EquippedUpgrades> serverUpgrades = new WeakHashMap<EntityPlayer, EquippedUpgrades>();
+  private final Map<EntityPlayer, EquippedUpgrades> clientUpgrades = new WeakHashMap<EntityPlayer, EquippedUpgrades>();
+
   private boolean nightVisionActive = false;
   private boolean removeNightvision = false;
 
@@ -105,6 +108,17 @@ public class DarkSteelController {
     return active;
   }
 
+  private EquippedUpgrades getEquippedUpgrades(EntityPlayer player) {
+    Map<EntityPlayer, EquippedUpgrades> equippedUpgrades = player.worldObj.isRemote ? clientUpgrades : serverUpgrades;
+    EquippedUpgrades res = equippedUpgrades.get(player);
+    if(res == null) {
+      res = new EquippedUpgrades();
+      equippedUpgrades.put(player, res);
+    }
+    res.update(player);
+    return res;
+  }
+
   public boolean isActive(EntityPlayer player, Type type) {
     return getActiveSet(player).contains(type);
   }
@@ -139,33 +153,34 @@ public class DarkSteelController {
     EntityPlayer player = event.player;
 
     if(event.phase == Phase.START) {
+      EquippedUpgrades upgrades = getEquippedUpgrades(player);
+
       //boots
-      updateStepHeightAndFallDistance(player);
+      updateStepHeightAndFallDistance(player, upgrades);
 
       //leggings
-      updateSpeed(player);
+      updateSpeed(player, upgrades);
 
       //sword
       updateSword(player);
 
-      updateGlide(player);
+      updateGlide(player, upgrades);
 
-      updateSwim(player);
+      updateSwim(player, upgrades);
 
-      updateSolar(player);
+      updateSolar(player, upgrades);
 
     }
 
   }
 
-  private void updateSolar(EntityPlayer player) {
+  private void updateSolar(EntityPlayer player, EquippedUpgrades upgrades) {
     // no processing on client
     if (player.worldObj.isRemote) {
       return;
     }
 
-    ItemStack helm = player.getEquipmentInSlot(4);
-    SolarUpgrade upgrade = SolarUpgrade.loadFromItem(helm);
+    SolarUpgrade upgrade = upgrades.getSolar();
     if(upgrade == null) {
       return;
     }
@@ -183,7 +198,7 @@ public class DarkSteelController {
 
       for (int i = 0; i < 4 && toAdd > 0; i++) {
         ItemStack stack = player.inventory.armorInventory[nextIndex];
-        if(stack != null && (EnergyUpgrade.loadFromItem(stack) != null || (Config.darkSteelSolarChargeOthers && stack.getItem() instanceof IEnergyContainerItem))) {
+        if(stack != null && (upgrades.hasEnergyUpgrade(nextIndex) || (Config.darkSteelSolarChargeOthers && stack.getItem() instanceof IEnergyContainerItem))) {
           toAdd -= ((IEnergyContainerItem) stack.getItem()).receiveEnergy(stack, toAdd, false);
         }
         nextIndex = (nextIndex + 1) % 4;
@@ -193,10 +208,8 @@ public class DarkSteelController {
     }
   }
 
-  private void updateSwim(EntityPlayer player) {
-    ItemStack boots = player.getEquipmentInSlot(1);
-    SwimUpgrade upgrade = SwimUpgrade.loadFromItem(boots);
-    if(upgrade == null) {
+  private void updateSwim(EntityPlayer player, EquippedUpgrades upgrades) {
+    if(upgrades.getSwim() == null) {
       return;
     }
     if(player.isInWater() && !player.capabilities.isFlying) {
@@ -205,8 +218,8 @@ public class DarkSteelController {
     }
   }
 
-  private void updateGlide(EntityPlayer player) {
-    if(!isGlideActive(player) || !isGliderUpgradeEquipped(player)) {
+  private void updateGlide(EntityPlayer player, EquippedUpgrades upgrades) {
+    if(!isGlideActive(player) || upgrades.getGlider() == null) {
       return;
     }
 
@@ -252,12 +265,7 @@ public class DarkSteelController {
   }
 
   public boolean isGliderUpgradeEquipped(EntityPlayer player) {
-    ItemStack chestPlate = player.getEquipmentInSlot(3);
-    GliderUpgrade glideUpgrade = GliderUpgrade.loadFromItem(chestPlate);
-    if(glideUpgrade == null) {
-      return false;
-    }
-    return true;
+    return getEquippedUpgrades(player).getGlider() != null;
   }
 
   private void updateSword(EntityPlayer player) {
@@ -272,7 +280,7 @@ public class DarkSteelController {
     }
   }
 
-  private void updateSpeed(EntityPlayer player) {
+  private void updateSpeed(EntityPlayer player, EquippedUpgrades upgrades) {
     if(player.worldObj.isRemote || !player.onGround) {
       return;
     }
@@ -285,7 +293,7 @@ public class DarkSteelController {
     }
 
     ItemStack leggings = player.getEquipmentInSlot(2);
-    SpeedUpgrade speedUpgrade = SpeedUpgrade.loadFromItem(leggings);
+    SpeedUpgrade speedUpgrade = upgrades.getSpeed();
     if(leggings != null && DarkSteelItems.isArmorPart(leggings.getItem(),2) && speedUpgrade != null && isSpeedActive(player)) {
 
       double horzMovement = Math.abs(player.distanceWalkedModified - player.prevDistanceWalkedModified);
@@ -305,7 +313,7 @@ public class DarkSteelController {
     }
   }
 
-  private void updateStepHeightAndFallDistance(EntityPlayer player) {
+  private void updateStepHeightAndFallDistance(EntityPlayer player, EquippedUpgrades upgrades) {
     ItemStack boots = player.getEquipmentInSlot(1);
 
     if(boots != null && DarkSteelItems.isArmorPart(boots.getItem(), 3) && !player.capabilities.allowFlying) {
@@ -320,7 +328,7 @@ public class DarkSteelController {
       }
     }
 
-    JumpUpgrade jumpUpgrade = JumpUpgrade.loadFromItem(boots);
+    JumpUpgrade jumpUpgrade = upgrades.getJump();
     if(jumpUpgrade != null && boots != null && DarkSteelItems.isArmorPart(boots.getItem(), 3) && isStepAssistActive(player)) {
       player.stepHeight = 1.0023F;
     } else if(player.stepHeight == 1.0023F) {
@@ -464,7 +472,7 @@ public class DarkSteelController {
     }
 
     ItemStack boots = player.getEquipmentInSlot(1);
-    JumpUpgrade jumpUpgrade = JumpUpgrade.loadFromItem(boots);
+    JumpUpgrade jumpUpgrade = getEquippedUpgrades(player).getJump();
 
     if(jumpUpgrade == null || boots == null || !DarkSteelItems.isArmorPart(boots.getItem(), 3)) {
       return;
@@ -541,7 +549,7 @@ public class DarkSteelController {
 
   public boolean isNightVisionUpgradeOrEnchEquipped(EntityPlayer player) {
     ItemStack helmet = player.getEquipmentInSlot(4);
-    return (NightVisionUpgrade.loadFromItem(helmet) != null || isNightVisionEnch(helmet));
+    return (getEquippedUpgrades(player).getNightVision() != null || isNightVisionEnch(helmet));
   }
 
   public void setNightVisionActive(boolean isNightVisionActive) {
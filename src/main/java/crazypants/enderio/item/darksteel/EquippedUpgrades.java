@@ -0,0 +1,100 @@
+package crazypants.enderio.item.darksteel;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import crazypants.enderio.item.darksteel.upgrade.EnergyUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.GliderUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.JumpUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.NightVisionUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.SolarUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.SpeedUpgrade;
+import crazypants.enderio.item.darksteel.upgrade.SwimUpgrade;
+
+/**
+ * The upgrades on a player's armour, decoded once per armour stack instead of
+ * every tick. A slot is decoded again when its stack, its NBT compound or the
+ * number of keys in it changes. Energy is still read from the stack, only which
+ * upgrades are present and their levels are cached.
+ */
+class EquippedUpgrades {
+
+  // indexed like InventoryPlayer.armorInventory, 0 is boots, 3 is the helmet
+  private final ItemStack[] stacks = new ItemStack[4];
+  private final NBTTagCompound[] tags = new NBTTagCompound[4];
+  private final int[] tagSizes = new int[4];
+  private final boolean[] energy = new boolean[4];
+
+  private JumpUpgrade jump;
+  private SwimUpgrade swim;
+  private SpeedUpgrade speed;
+  private GliderUpgrade glider;
+  private SolarUpgrade solar;
+  private NightVisionUpgrade nightVision;
+
+  void update(EntityPlayer player) {
+    ItemStack[] armor = player.inventory.armorInventory;
+    for (int i = 0; i < stacks.length; i++) {
+      ItemStack stack = armor[i];
+      NBTTagCompound tag = stack == null ? null : stack.stackTagCompound;
+      int tagSize = tag == null ? 0 : tag.func_150296_c().size();
+      if(stack != stacks[i] || tag != tags[i] || tagSize != tagSizes[i]) {
+        stacks[i] = stack;
+        tags[i] = tag;
+        tagSizes[i] = tagSize;
+        decode(i, stack);
+      }
+    }
+  }
+
+  private void decode(int slot, ItemStack stack) {
+    energy[slot] = EnergyUpgrade.loadFromItem(stack) != null;
+    switch (slot) {
+    case 0:
+      jump = JumpUpgrade.loadFromItem(stack);
+      swim = SwimUpgrade.loadFromItem(stack);
+      break;
+    case 1:
+      speed = SpeedUpgrade.loadFromItem(stack);
+      break;
+    case 2:
+      glider = GliderUpgrade.loadFromItem(stack);
+      break;
+    case 3:
+      solar = SolarUpgrade.loadFromItem(stack);
+      nightVision = NightVisionUpgrade.loadFromItem(stack);
+      break;
+    default:
+      break;
+    }
+  }
+
+  boolean hasEnergyUpgrade(int slot) {
+    return energy[slot];
+  }
+
+  JumpUpgrade getJump() {
+    return jump;
+  }
+
+  SwimUpgrade getSwim() {
+    return swim;
+  }
+
+  SpeedUpgrade getSpeed() {
+    return speed;
+  }
+
+  GliderUpgrade getGlider() {
+    return glider;
+  }
+
+  SolarUpgrade getSolar() {
+    return solar;
+  }
+
+  NightVisionUpgrade getNightVision() {
+    return nightVision;
+  }
+
+}
@@ -1,6 +1,8 @@
 package crazypants.enderio.machine;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
@@ -29,6 +31,7 @@ import crazypants.enderio.EnderIO;
 import crazypants.enderio.TileEntityEio;
 import crazypants.enderio.api.redstone.IRedstoneConnectable;
 import crazypants.enderio.config.Config;
+import crazypants.enderio.network.PacketHandler;
 
 public abstract class AbstractMachineEntity extends TileEntityEio implements ISidedInventory, IMachine, IRedstoneModeControlable, 
   IRedstoneConnectable, IIoConfigurable {
@@ -63,6 +66,12 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   public boolean isDirty = false;
 
+  private int inventoryChangeCount;
+
+  // sent on their own when they change, see addSyncedField
+  private final List<SyncedField> syncedFields = new ArrayList<SyncedField>();
+  private static final int SYNCED_FIELD_INTERVAL = 5;
+
   public static ResourceLocation getSoundFor(String sound) {
     return sound == null ? null : new ResourceLocation(EnderIO.DOMAIN + ":" + sound);
   }
@@ -79,6 +88,57 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
     for (int i = 0; i < allSlots.length; i++) {
       allSlots[i] = i;
     }
+
+    addSyncedField(new SyncedField() {
+      @Override
+      protected int getValue() {
+        return redstoneCheckPassed ? 1 : 0;
+      }
+
+      @Override
+      protected void setValue(int value) {
+        redstoneCheckPassed = value != 0;
+      }
+    });
+  }
+
+  /**
+   * Registers state that is sent to clients in one small packet when it
+   * changes, checked every few ticks. Has to be called in the same order on
+   * client and server, normally from the constructor. Everything else is only
+   * synced by full description packets.
+   */
+  protected void addSyncedField(SyncedField field) {
+    if(syncedFields.size() == 32) {
+      throw new IllegalStateException("Too many synced fields on " + getClass().getName());
+    }
+    syncedFields.add(field);
+  }
+
+  private void sendSyncedFields() {
+    int changed = 0;
+    int[] values = null;
+    for (int i = 0; i < syncedFields.size(); i++) {
+      SyncedField field = syncedFields.get(i);
+      if(field.hasChanged()) {
+        if(values == null) {
+          values = new int[syncedFields.size()];
+        }
+        values[i] = field.takeValue();
+        changed |= 1 << i;
+      }
+    }
+    if(changed != 0) {
+      PacketHandler.sendToAllAround(new PacketSyncedFields(this, changed, values), this);
+    }
+  }
+
+  void readSyncedFields(int changed, int[] values) {
+    for (int i = 0; i < values.length && i < syncedFields.size(); i++) {
+      if((changed & (1 << i)) != 0) {
+        syncedFields.get(i).setValue(values[i]);
+      }
+    }
   }
 
   @Override
@@ -257,7 +317,8 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
       requiresClientSync |= doSideIo();
     }
 
-    requiresClientSync |= prevRedCheck != redstoneCheckPassed;
+    // synced on its own, see the constructor
+    boolean redstoneChanged = prevRedCheck != redstoneCheckPassed;
 
     requiresClientSync |= processTasks(redstoneCheckPassed);
 
@@ -269,6 +330,12 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
       worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
       // And this will make sure our current tile entity state is saved
       markDirty();
+    } else if(redstoneChanged) {
+      markDirty();
+    }
+
+    if(redstoneChanged || shouldDoWorkThisTick(SYNCED_FIELD_INTERVAL)) {
+      sendSyncedFields();
     }
 
     if(notifyNeighbours) {
@@ -581,8 +648,23 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
     return inventory[slot];
   }
 
+  @Override
+  public void markDirty() {
+    super.markDirty();
+    inventoryChangeCount++;
+  }
+
+  /**
+   * Changes whenever the inventory may have changed, so item conduits can tell
+   * an untouched machine apart without rescanning its slots.
+   */
+  public int getInventoryChangeCount() {
+    return inventoryChangeCount;
+  }
+
   @Override
   public ItemStack decrStackSize(int fromSlot, int amount) {
+    inventoryChangeCount++;
     ItemStack fromStack = inventory[fromSlot];
     if(fromStack == null) {
       return null;
@@ -601,6 +683,7 @@ public abstract class AbstractMachineEntity extends TileEntityEio implements ISi
 
   @Override
   public void setInventorySlotContents(int slot, ItemStack contents) {
+    inventoryChangeCount++;
     if(contents == null) {
       inventory[slot] = contents;
     } else {
@@ -9,7 +9,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.enderio.core.common.vecmath.VecmathUtil;
 
 import crazypants.enderio.EnderIO;
-import crazypants.enderio.network.PacketHandler;
 
 public abstract class AbstractPoweredMachineEntity extends AbstractMachineEntity implements IInternalPoweredTile {
 
@@ -18,11 +17,21 @@ public abstract class AbstractPoweredMachineEntity extends AbstractMachineEntity
   private ICapacitor capacitor = Capacitors.BASIC_CAPACITOR.capacitor;
 
   private int storedEnergyRF = 0;
-  protected float lastSyncPowerStored = -1;
 
   protected AbstractPoweredMachineEntity(SlotDefinition slotDefinition) {
     super(slotDefinition);
     setCapacitor(Capacitors.BASIC_CAPACITOR);
+    addSyncedField(new SyncedField() {
+      @Override
+      protected int getValue() {
+        return storedEnergyRF;
+      }
+
+      @Override
+      protected void setValue(int value) {
+        setEnergyStored(value);
+      }
+    });
   }
 
   @Override
@@ -31,21 +40,6 @@ public abstract class AbstractPoweredMachineEntity extends AbstractMachineEntity
     onCapacitorTypeChange();
   }
 
-  @Override
-  public void doUpdate() {
-
-    super.doUpdate();
-
-    if (worldObj.isRemote) {
-      return;
-    }
-    boolean powerChanged = (lastSyncPowerStored != storedEnergyRF && shouldDoWorkThisTick(5));
-    if(powerChanged) {
-      lastSyncPowerStored = storedEnergyRF;
-      PacketHandler.sendToAllAround(new PacketPowerStorage(this), this);
-    }
-  }
-
   //RF API Power
 
   @Override
@@ -26,8 +26,23 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
   protected boolean startFailed = false;
   protected float nextChance = Float.NaN;
 
+  // progress is synced in steps of 1/PROGRESS_STEPS
+  private static final int PROGRESS_STEPS = 200;
+
   public AbstractPoweredTaskEntity(SlotDefinition slotDefinition) {
     super(slotDefinition);
+    addSyncedField(new SyncedField() {
+      @Override
+      protected int getValue() {
+        float progress = getProgress();
+        return progress < 0 ? -1 : (int) (progress * PROGRESS_STEPS);
+      }
+
+      @Override
+      protected void setValue(int value) {
+        setProgress(value < 0 ? -1 : value / (float) PROGRESS_STEPS);
+      }
+    });
   }
 
   @Override
@@ -80,6 +95,12 @@ public abstract class AbstractPoweredTaskEntity extends AbstractPowerConsumerEnt
     return lastCompletedRecipe.getExperienceForOutput(output);
   }
 
+  @Override
+  protected void sendTaskProgressPacket() {
+    // sent with the other synced fields
+    ticksSinceLastProgressUpdate = 0;
+  }
+
   public boolean getRedstoneChecksPassed() {
     return redstoneCheckPassed;
   }
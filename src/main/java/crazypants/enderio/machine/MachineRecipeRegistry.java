@@ -13,8 +13,11 @@ public class MachineRecipeRegistry {
 
   private final Map<String, Map<String, IMachineRecipe>> machineRecipes = new HashMap<String, Map<String, IMachineRecipe>>();
 
+  private final Map<String, IMachineRecipe> recipesByUid = new HashMap<String, IMachineRecipe>();
+
   public void registerRecipe(String machine, IMachineRecipe recipe) {
     getRecipesForMachine(machine).put(recipe.getUid(), recipe);    
+    recipesByUid.put(recipe.getUid(), recipe);
   }
 
   public Map<String, IMachineRecipe> getRecipesForMachine(String machineName) {
@@ -30,6 +33,11 @@ public class MachineRecipeRegistry {
     if(uid == null) {
       return null;
     }
+    IMachineRecipe res = recipesByUid.get(uid);
+    if(res != null) {
+      return res;
+    }
+    // recipes put straight into the map from getRecipesForMachine
     for (Map<String, IMachineRecipe> recipes : machineRecipes.values()) {
       for (IMachineRecipe recipe : recipes.values()) {
         if(uid.equals(recipe.getUid())) {
@@ -0,0 +1,59 @@
+package crazypants.enderio.machine;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.tileentity.TileEntity;
+
+import com.enderio.core.common.network.MessageTileEntity;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import crazypants.enderio.EnderIO;
+
+public class PacketSyncedFields extends MessageTileEntity<TileEntity> implements IMessageHandler<PacketSyncedFields, IMessage> {
+
+  // bit i is set if field i is included
+  private int changed;
+  private int[] values;
+
+  public PacketSyncedFields() {
+  }
+
+  public PacketSyncedFields(AbstractMachineEntity te, int changed, int[] values) {
+    super(te);
+    this.changed = changed;
+    this.values = values;
+  }
+
+  @Override
+  public void toBytes(ByteBuf buf) {
+    super.toBytes(buf);
+    buf.writeInt(changed);
+    for (int i = 0; i < values.length; i++) {
+      if((changed & (1 << i)) != 0) {
+        buf.writeInt(values[i]);
+      }
+    }
+  }
+
+  @Override
+  public void fromBytes(ByteBuf buf) {
+    super.fromBytes(buf);
+    changed = buf.readInt();
+    values = new int[32 - Integer.numberOfLeadingZeros(changed)];
+    for (int i = 0; i < values.length; i++) {
+      if((changed & (1 << i)) != 0) {
+        values[i] = buf.readInt();
+      }
+    }
+  }
+
+  @Override
+  public IMessage onMessage(PacketSyncedFields message, MessageContext ctx) {
+    TileEntity tile = message.getTileEntity(EnderIO.proxy.getClientWorld());
+    if(tile instanceof AbstractMachineEntity) {
+      ((AbstractMachineEntity) tile).readSyncedFields(message.changed, message.values);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,34 @@
+package crazypants.enderio.machine;
+
+/**
+ * A piece of machine state that is sent to clients on its own when it
+ * changes, instead of with a full description packet. See
+ * {@link AbstractMachineEntity#addSyncedField(SyncedField)}. Values are sent as
+ * ints, implementations convert to and from them.
+ */
+public abstract class SyncedField {
+
+  private boolean sent;
+  private int lastSent;
+
+  /**
+   * The value the client should see, called on the server.
+   */
+  protected abstract int getValue();
+
+  /**
+   * Applies a value received from the server.
+   */
+  protected abstract void setValue(int value);
+
+  boolean hasChanged() {
+    return !sent || getValue() != lastSent;
+  }
+
+  int takeValue() {
+    lastSent = getValue();
+    sent = true;
+    return lastSent;
+  }
+
+}
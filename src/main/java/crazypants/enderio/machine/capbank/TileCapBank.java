@@ -615,6 +615,9 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
 
   @Override
   public int getEnergyStored() {
+    if(network != null) {
+      network.updateEnergyShares();
+    }
     return energyStored;
   }
 
@@ -693,8 +696,10 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
   }
 
   public int getComparatorOutput() {
-    double stored = getEnergyStored();
-    return stored == 0 ? 0 : (int) (1 + stored / getMaxEnergyStored() * 14);
+    // every member holds the same share, so the network's fill level will do
+    // and the members don't need updating every tick
+    double stored = getEnergyStoredL();
+    return stored == 0 ? 0 : (int) (1 + stored / getMaxEnergyStoredL() * 14);
   }
 
   @Override
@@ -810,7 +815,7 @@ public class TileCapBank extends TileEntityEio implements IInternalPowerReceiver
   //Values common to both item and block form
   public void writeCommonNBT(NBTTagCompound nbtRoot) {
     getType().writeTypeToNBT(nbtRoot);
-    nbtRoot.setInteger(PowerHandlerUtil.STORED_ENERGY_NBT_KEY, energyStored);
+    nbtRoot.setInteger(PowerHandlerUtil.STORED_ENERGY_NBT_KEY, getEnergyStored());
 
     if(maxInput != -1) {
       nbtRoot.setInteger("maxInput", maxInput);
@@ -279,6 +279,10 @@ public class CapBankClientNetwork implements ICapBankNetwork {
     return true;
   }
 
+  @Override
+  public void updateEnergyShares() {
+  }
+
   @Override
   public void invalidateDisplayInfoCache() {
     ioDisplayInfoCache = null;
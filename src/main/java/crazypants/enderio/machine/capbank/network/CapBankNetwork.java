@@ -16,10 +16,12 @@ import com.enderio.core.common.util.BlockCoord;
 import com.enderio.core.common.util.RoundRobinIterator;
 
 import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+import crazypants.enderio.conduit.ConduitNetworkProfiler;
 import crazypants.enderio.conduit.ConduitNetworkTickHandler;
 import crazypants.enderio.conduit.ConduitNetworkTickHandler.TickListener;
 import crazypants.enderio.conduit.ConnectionMode;
 import crazypants.enderio.conduit.power.IPowerConduit;
+import crazypants.enderio.config.Config;
 import crazypants.enderio.machine.IoMode;
 import crazypants.enderio.machine.RedstoneControlMode;
 import crazypants.enderio.machine.capbank.CapBankType;
@@ -52,6 +54,8 @@ public class CapBankNetwork implements ICapBankNetwork {
 
   private long energyStored;
   private long prevEnergyStored = -1;
+  // the members' own energy is only updated when something reads it
+  private boolean energyDistributed = true;
   private long energyReceived;
   private long energySend;
 
@@ -76,6 +80,13 @@ public class CapBankNetwork implements ICapBankNetwork {
 
   private boolean firstUpate = true;
 
+  private long tickCount;
+
+  // back-off for the charging slots, reset when the stack in a slot changes
+  private final ItemStack[] chargeStacks = new ItemStack[4];
+  private final int[] chargeBackoff = new int[4];
+  private final long[] nextChargeTick = new long[4];
+
   public CapBankNetwork(int id) {
     this.id = id;
   }
@@ -149,6 +160,7 @@ public class CapBankNetwork implements ICapBankNetwork {
   @Override
   public void addMember(TileCapBank cap) {
     if(!capBanks.contains(cap)) {
+      updateEnergyShares();
       capBanks.add(cap);
       long newIO = maxIO + cap.getType().getMaxIO();
       if(newIO > IO_CAP) {
@@ -219,12 +231,13 @@ public class CapBankNetwork implements ICapBankNetwork {
   }
 
   private void doNetworkTick() {
+    tickCount++;
 
-    chargeItems(inventory.getStacks());
+    chargeItems(inventory.getStacks(), true);
     transmitEnergy();
 
     if(energyStored != prevEnergyStored) {
-      distributeEnergyToBanks();
+      energyDistributed = false;
     }
     powerTrackerIn.tick(energyReceived);
     powerTrackerOut.tick(energySend);
@@ -265,7 +278,18 @@ public class CapBankNetwork implements ICapBankNetwork {
     int totalSent = 0;
     Iterator<EnergyReceptor> iter = receptorIterator.iterator();
     while (available > 0 && iter.hasNext()) {
-      int sent = sendPowerTo(iter.next(), available);
+      EnergyReceptor rec = iter.next();
+      if(rec.nextOfferTick > tickCount) {
+        continue;
+      }
+      int sent = sendPowerTo(rec, available);
+      if(sent > 0 || Config.capBankMaxBackoffTicks <= 0) {
+        rec.backoff = 0;
+        rec.nextOfferTick = 0;
+      } else {
+        rec.backoff = nextBackoff(rec.backoff);
+        rec.nextOfferTick = tickCount + rec.backoff;
+      }
       totalSent += sent;
       available -= sent;
     }
@@ -298,12 +322,29 @@ public class CapBankNetwork implements ICapBankNetwork {
   }
 
   public boolean chargeItems(ItemStack[] items) {
+    return chargeItems(items, false);
+  }
+
+  // only the bank's own slots are tracked, wireless chargers pass in player
+  // inventories too
+  private boolean chargeItems(ItemStack[] items, boolean trackSlots) {
     if(items == null) {
       return false;
     }
     boolean chargedItem = false;
     int available = getEnergyAvailableForTick(getMaxIO());
-    for (ItemStack item : items) {
+    for (int i = 0; i < items.length; i++) {
+      ItemStack item = items[i];
+      boolean tracked = trackSlots && i < chargeStacks.length;
+      if(tracked) {
+        if(chargeStacks[i] != item) {
+          chargeStacks[i] = item;
+          chargeBackoff[i] = 0;
+          nextChargeTick[i] = 0;
+        } else if(nextChargeTick[i] > tickCount) {
+          continue;
+        }
+      }
       if(item != null && available > 0 && item.stackSize == 1 && item.getItem() instanceof IEnergyContainerItem) {
         IEnergyContainerItem chargable = (IEnergyContainerItem) item.getItem();
         int max = chargable.getMaxEnergyStored(item);
@@ -316,13 +357,37 @@ public class CapBankNetwork implements ICapBankNetwork {
             chargedItem = true;
             available -= used;
           }
+          if(tracked) {
+            if(used > 0 || Config.capBankMaxBackoffTicks <= 0) {
+              chargeBackoff[i] = 0;
+            } else {
+              chargeBackoff[i] = nextBackoff(chargeBackoff[i]);
+            }
+            nextChargeTick[i] = tickCount + chargeBackoff[i];
+          }
         }
       }
     }
     return chargedItem;
   }
 
+  /**
+   * Receptors and items that refuse energy are skipped for 1, 2, 4... ticks,
+   * up to the configured maximum.
+   */
+  private static int nextBackoff(int backoff) {
+    return backoff == 0 ? 1 : Math.min(backoff * 2, Config.capBankMaxBackoffTicks);
+  }
+
+  @Override
+  public void updateEnergyShares() {
+    if(!energyDistributed) {
+      distributeEnergyToBanks();
+    }
+  }
+
   private void distributeEnergyToBanks() {
+    energyDistributed = true;
     if(capBanks.isEmpty()) {
       return;
     }
@@ -549,7 +614,9 @@ public class CapBankNetwork implements ICapBankNetwork {
 
     @Override
     public void tickEnd(ServerTickEvent evt) {
+      long start = ConduitNetworkProfiler.instance.start();
       doNetworkTick();
+      ConduitNetworkProfiler.instance.end(CapBankNetwork.this, "CapBankNetwork", capBanks.isEmpty() ? null : capBanks.get(0), start);
     }
 
   }
@@ -19,6 +19,10 @@ public class EnergyReceptor {
 
   private final IPowerConduit conduit;
 
+  // demand tracking, see CapBankNetwork
+  int backoff;
+  long nextOfferTick;
+
   public EnergyReceptor(TileCapBank cb, IPowerInterface receptor, ForgeDirection dir) {
     this.receptor = receptor;
     fromDir = dir;
@@ -36,6 +36,11 @@ public interface ICapBankNetwork extends IPowerStorage {
   @Override
   long getMaxEnergyStoredL();
 
+  /**
+   * Brings the energy stored in each member up to date with the network.
+   */
+  void updateEnergyShares();
+
   int getMaxIO();
 
   @Override
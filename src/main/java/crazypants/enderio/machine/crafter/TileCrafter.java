@@ -9,7 +9,6 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.MinecraftForge;
@@ -28,6 +27,7 @@ import crazypants.enderio.machine.SlotDefinition;
 import crazypants.enderio.power.BasicCapacitor;
 import crazypants.enderio.power.Capacitors;
 import crazypants.enderio.power.ICapacitor;
+import crazypants.util.CraftingRecipeCache;
 
 public class TileCrafter extends AbstractPowerConsumerEntity implements IItemBuffer {
 
@@ -177,7 +177,7 @@ public class TileCrafter extends AbstractPowerConsumerEntity implements IItemBuf
     }
 
     // (2) Try to craft with the temp grid
-    ItemStack output = CraftingManager.getInstance().findMatchingRecipe(inv, worldObj);
+    ItemStack output = CraftingRecipeCache.findMatchingRecipe(inv, worldObj);
 
     // (3) If we got a result, ...
     if (output != null) {
@@ -357,7 +357,7 @@ public class TileCrafter extends AbstractPowerConsumerEntity implements IItemBuf
     for (int i = 0; i < 9; i++) {
       inv.setInventorySlotContents(i, craftingGrid.getStackInSlot(i));
     }
-    ItemStack matches = CraftingManager.getInstance().findMatchingRecipe(inv, worldObj);
+    ItemStack matches = CraftingRecipeCache.findMatchingRecipe(inv, worldObj);
     craftingGrid.setInventorySlotContents(9, matches);
     markDirty();
 
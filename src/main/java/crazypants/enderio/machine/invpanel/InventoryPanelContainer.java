@@ -20,7 +20,6 @@ import net.minecraft.inventory.Slot;
 import net.minecraft.inventory.SlotCrafting;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.entity.player.PlayerDestroyItemEvent;
 
@@ -36,6 +35,7 @@ import crazypants.enderio.machine.invpanel.server.ChangeLog;
 import crazypants.enderio.machine.invpanel.server.InventoryDatabaseServer;
 import crazypants.enderio.machine.invpanel.server.ItemEntry;
 import crazypants.enderio.network.PacketHandler;
+import crazypants.util.CraftingRecipeCache;
 
 public class InventoryPanelContainer extends AbstractMachineContainer<TileInventoryPanel> implements ChangeLog {
 
@@ -219,6 +219,7 @@ public class InventoryPanelContainer extends AbstractMachineContainer<TileInvent
             byte[] compressed = db.compressItemList();
             PacketItemList pil = new PacketItemList(getInventoryPanel(), db.getGeneration(), compressed);
             PacketHandler.sendTo(pil, (EntityPlayerMP) crafting);
+            db.itemListSent((EntityPlayerMP) crafting);
           } catch (IOException ex) {
             Logger.getLogger(InventoryPanelContainer.class.getName()).log(Level.SEVERE, "Exception while compressing item list", ex);
           }
@@ -240,7 +241,7 @@ public class InventoryPanelContainer extends AbstractMachineContainer<TileInvent
       tmp.setInventorySlotContents(i, getInv().getStackInSlot(i));
     }
 
-    getInv().setInventorySlotContents(9, CraftingManager.getInstance().findMatchingRecipe(tmp, getInv().getWorldObj()));
+    getInv().setInventorySlotContents(9, CraftingRecipeCache.findMatchingRecipe(tmp, getInv().getWorldObj()));
 
     checkCraftingRecipes();
   }
@@ -7,11 +7,12 @@ import net.minecraft.inventory.Container;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.CraftingManager;
 import net.minecraft.nbt.NBTTagCompound;
 
 import com.enderio.core.common.util.ItemUtil;
 
+import crazypants.util.CraftingRecipeCache;
+
 public class StoredCraftingRecipe {
 
   private final ItemStack[] slots;
@@ -102,7 +103,7 @@ public class StoredCraftingRecipe {
       tmp.setInventorySlotContents(i, slots[i]);
     }
 
-    result = CraftingManager.getInstance().findMatchingRecipe(tmp, te.getWorldObj());
+    result = CraftingRecipeCache.findMatchingRecipe(tmp, te.getWorldObj());
     if(result != null) {
       result = result.copy();
       result.stackSize = 1;
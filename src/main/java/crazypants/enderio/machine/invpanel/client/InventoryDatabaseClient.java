@@ -82,8 +82,9 @@ public class InventoryDatabaseClient extends InventoryDatabase<ItemEntry> {
       List<Integer> missingItems = null;
       int changed = cdi.readVariable();
       if(changed > 0) {
+        int dbID = 0;
         for(int i = 0; i < changed; i++) {
-          int dbID = cdi.readVariable();
+          dbID += cdi.readVariable();
           int count = cdi.readVariable();
           ItemEntry entry = getItem(dbID);
           if(entry != null) {
@@ -5,6 +5,7 @@ import net.minecraft.item.ItemStack;
 abstract class AbstractInventory {
   static final SlotKey[] NO_SLOTS = new SlotKey[0];
   SlotKey[] slotKeys = NO_SLOTS;
+  boolean queuedForScan;
 
   protected void setEmpty(InventoryDatabaseServer db) {
     if (slotKeys.length != 0) {
@@ -36,7 +37,7 @@ abstract class AbstractInventory {
     if (key != current) {
       updateSlotKey(db, slot, slotKey, key, count);
     } else if (slotKey != null && slotKey.count != count) {
-      slotKey.count = count;
+      current.setSlotCount(slotKey, count);
       db.entryChanged(current);
     }
   }
@@ -69,7 +70,7 @@ abstract class AbstractInventory {
         slotKey.remove(db);
         slotKeys[slot] = null;
       } else {
-        slotKey.count = count;
+        entry.setSlotCount(slotKey, count);
         db.entryChanged(slotKey.item);
       }
     }
@@ -9,18 +9,27 @@ import crazypants.enderio.machine.invpanel.TileInventoryPanel;
 import crazypants.enderio.network.PacketHandler;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.enderio.core.common.network.CompressedDataInput;
 import com.enderio.core.common.network.CompressedDataOutput;
 
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
 
 public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
 
@@ -30,14 +39,19 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
   private int networkChangeCount;
 
   private AbstractInventory[] inventories;
+  private final Map<NetworkedInventory, AbstractInventory> inventoryMap = new IdentityHashMap<NetworkedInventory, AbstractInventory>();
+  private final ArrayDeque<AbstractInventory> changedInventories = new ArrayDeque<AbstractInventory>();
+  private int changedScanPause;
   private int currentInventory;
   private ChangeLog changeLog;
-  private boolean sentToClient;
+  // players that were sent the item list of this generation and need to be told when it's reset
+  private final Set<UUID> clients = new HashSet<UUID>();
   private int tickPause;
   private float power;
 
   public InventoryDatabaseServer(ItemConduitNetwork network) {
     this.network = network;
+    generation = nextGeneration.incrementAndGet();
   }
 
   public ItemConduitNetwork getNetwork() {
@@ -137,7 +151,6 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
         }
       }
       cdo.writeByte(0);
-      sentToClient = true;
       return cdo.getCompressed();
     } finally {
       cdo.close();
@@ -145,12 +158,17 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
   }
 
   public byte[] compressChangedItems(Collection<ItemEntry> items) throws IOException {
+    // sorted so the IDs can be sent as small increments
+    ItemEntry[] sorted = items.toArray(new ItemEntry[items.size()]);
+    Arrays.sort(sorted, BY_DBID);
     CompressedDataOutput cdo = new CompressedDataOutput();
     try {
-      cdo.writeVariable(items.size());
-      for(ItemEntry entry : items) {
-        cdo.writeVariable(entry.dbID);
+      cdo.writeVariable(sorted.length);
+      int prevID = 0;
+      for(ItemEntry entry : sorted) {
+        cdo.writeVariable(entry.dbID - prevID);
         cdo.writeVariable(entry.countItems(this));
+        prevID = entry.dbID;
       }
       return cdo.getCompressed();
     } finally {
@@ -158,35 +176,78 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
     }
   }
 
+  private static final Comparator<ItemEntry> BY_DBID = new Comparator<ItemEntry>() {
+    @Override
+    public int compare(ItemEntry o1, ItemEntry o2) {
+      return o1.dbID - o2.dbID;
+    }
+  };
+
+  public void itemListSent(EntityPlayerMP player) {
+    clients.add(player.getUniqueID());
+  }
+
   public void resetDatabase() {
     simpleRegsitry.clear();
     complexRegistry.clear();
     complexItems.clear();
     currentInventory = 0;
-    if(sentToClient) {
-      PacketHandler.INSTANCE.sendToAll(new PacketDatabaseReset(generation));
-      sentToClient = false;
+    inventories = null;
+    inventoryMap.clear();
+    changedInventories.clear();
+    if(!clients.isEmpty()) {
+      PacketDatabaseReset pkt = new PacketDatabaseReset(generation);
+      for (Object o : MinecraftServer.getServer().getConfigurationManager().playerEntityList) {
+        EntityPlayerMP player = (EntityPlayerMP) o;
+        if(clients.contains(player.getUniqueID())) {
+          PacketHandler.sendTo(pkt, player);
+        }
+      }
+      clients.clear();
+    }
+    generation = nextGeneration.incrementAndGet();
+    networkChangeCount = -1;
+    if(changeLog != null) {
+      changeLog.databaseReset();
     }
   }
 
+  /**
+   * Brings the inventory list up to date with the network. Inventories that
+   * are still there are kept as they are, the items of removed ones are taken
+   * out of the database and new ones are scanned soon.
+   */
   public void updateNetworkSources() {
-    resetDatabase();
-    generation = nextGeneration.incrementAndGet();
     networkChangeCount = network.getChangeCount();
 
+    Map<NetworkedInventory, AbstractInventory> removed = new IdentityHashMap<NetworkedInventory, AbstractInventory>(inventoryMap);
+    inventoryMap.clear();
     List<NetworkedInventory> sources = network.getInventoryPanelSources();
-    if(sources == null || sources.isEmpty()) {
-      this.inventories = null;
-    } else {
-      this.inventories = new AbstractInventory[sources.size()];
-      for(int i=0; i<sources.size(); i++) {
-        NetworkedInventory ni = sources.get(i);
-        inventories[i] = InventoryFactory.createInventory(ni);
+    List<AbstractInventory> current = new ArrayList<AbstractInventory>(sources.size());
+    for (NetworkedInventory ni : sources) {
+      AbstractInventory inv = removed.remove(ni);
+      if(inv == null) {
+        inv = InventoryFactory.createInventory(ni);
+        inv.queuedForScan = true;
+        changedInventories.add(inv);
+      }
+      inventoryMap.put(ni, inv);
+      current.add(inv);
+    }
+    for (AbstractInventory inv : removed.values()) {
+      if(inv.queuedForScan) {
+        changedInventories.remove(inv);
+        inv.queuedForScan = false;
       }
+      inv.setEmpty(this);
     }
 
-    if(changeLog != null) {
-      changeLog.databaseReset();
+    if(current.isEmpty()) {
+      inventories = null;
+      currentInventory = 0;
+    } else {
+      inventories = current.toArray(new AbstractInventory[current.size()]);
+      currentInventory %= inventories.length;
     }
   }
 
@@ -225,6 +286,18 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
     return 0;
   }
 
+  /**
+   * Called by the item conduits when they inserted into or extracted from an
+   * inventory, so it is rescanned ahead of the slower background scan.
+   */
+  public void inventoryChanged(NetworkedInventory ni) {
+    AbstractInventory inv = inventoryMap.get(ni);
+    if(inv != null && !inv.queuedForScan) {
+      inv.queuedForScan = true;
+      changedInventories.add(inv);
+    }
+  }
+
   private void scanNextInventory() {
     if(!isOperational()) {
       tickPause = 20;
@@ -232,15 +305,35 @@ public class InventoryDatabaseServer extends InventoryDatabase<ItemEntry> {
     }
 
     AbstractInventory inv = inventories[currentInventory];
-    int slots = inv.scanInventory(this);
+    int slots = scanInventory(inv);
 
     currentInventory = (currentInventory+1) % inventories.length;
-    tickPause += 1 + (slots + 8) / 9;
+    tickPause += (1 + (slots + 8) / 9) * Config.inventoryPanelIdleScanFactor;
+  }
+
+  private void scanChangedInventory() {
+    if(!isOperational()) {
+      return;
+    }
+    AbstractInventory inv = changedInventories.poll();
+    int slots = scanInventory(inv);
+    changedScanPause = 1 + (slots + 8) / 9;
+  }
+
+  private int scanInventory(AbstractInventory inv) {
+    inv.queuedForScan = false;
+    int slots = inv.scanInventory(this);
     power -= slots * Config.inventoryPanelScanCostPerSlot;
+    return slots;
   }
 
   public void tick() {
-    if(--tickPause <= 0) {
+    if(changedScanPause > 0) {
+      changedScanPause--;
+    }
+    if(changedScanPause <= 0 && !changedInventories.isEmpty()) {
+      scanChangedInventory();
+    } else if(--tickPause <= 0) {
       scanNextInventory();
     }
   }
@@ -6,25 +6,33 @@ import net.minecraft.nbt.NBTTagCompound;
 
 public class ItemEntry extends ItemEntryBase {
   private final IdentityHashMap<SlotKey, SlotKey> slots = new IdentityHashMap<SlotKey, SlotKey>();
+  private int totalCount;
 
   public ItemEntry(int dbID, int hash, int itemID, int meta, NBTTagCompound nbt) {
     super(dbID, hash, itemID, meta, nbt);
   }
 
   void addSlot(SlotKey slotKey) {
-    slots.put(slotKey, slotKey);
+    if(slots.put(slotKey, slotKey) == null) {
+      totalCount += slotKey.count;
+    }
   }
 
   void removeSlot(SlotKey slotKey) {
-    slots.remove(slotKey);
+    if(slots.remove(slotKey) != null) {
+      totalCount -= slotKey.count;
+    }
   }
 
-  int countItems(InventoryDatabaseServer db) {
-    int count = 0;
-    for (SlotKey slotKey : slots.values()) {
-      count += slotKey.count;
+  void setSlotCount(SlotKey slotKey, int count) {
+    if(slots.containsKey(slotKey)) {
+      totalCount += count - slotKey.count;
     }
-    return count;
+    slotKey.count = count;
+  }
+
+  int countItems(InventoryDatabaseServer db) {
+    return totalCount;
   }
 
   int extractItems(InventoryDatabaseServer db, int count) {
@@ -54,6 +54,7 @@ import crazypants.enderio.xp.ExperienceContainer;
 import crazypants.enderio.xp.IHaveExperience;
 import crazypants.enderio.xp.PacketExperianceContainer;
 import crazypants.enderio.xp.XpUtil;
+import crazypants.util.EntityQueryCache;
 
 public class TileKillerJoe extends AbstractMachineEntity implements IFluidHandler, IEntitySelector, IHaveExperience, ITankAccess, IHasNutrientTank {
 
@@ -164,7 +165,6 @@ public class TileKillerJoe extends AbstractMachineEntity implements IFluidHandle
     return itemstack.getItem() == inventory[slot].getItem();
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   protected boolean processTasks(boolean redstoneCheckPassed) {
 
@@ -193,7 +193,7 @@ public class TileKillerJoe extends AbstractMachineEntity implements IFluidHandle
       return false;
     }
 
-    List<EntityLivingBase> entsInBounds = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, getKillBounds());
+    List<EntityLivingBase> entsInBounds = EntityQueryCache.getEntitiesWithinAABB(worldObj, EntityLivingBase.class, getKillBounds());
     if(!entsInBounds.isEmpty()) {
 
       for (EntityLivingBase ent : entsInBounds) {
@@ -277,7 +277,7 @@ public class TileKillerJoe extends AbstractMachineEntity implements IFluidHandle
 
     double maxDist = Config.killerJoeHooverXpLength;
 
-    List<EntityXPOrb> xp = worldObj.selectEntitiesWithinAABB(EntityXPOrb.class, getHooverBounds(), this);
+    List<EntityXPOrb> xp = EntityQueryCache.selectEntitiesWithinAABB(worldObj, EntityXPOrb.class, getHooverBounds(), this);
 
     for (EntityXPOrb entity : xp) {
       double xDist = (xCoord + 0.5D - entity.posX);
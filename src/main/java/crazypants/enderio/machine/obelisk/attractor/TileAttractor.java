@@ -45,6 +45,7 @@ import crazypants.enderio.machine.SlotDefinition;
 import crazypants.enderio.machine.ranged.IRanged;
 import crazypants.enderio.machine.ranged.RangeEntity;
 import crazypants.enderio.power.BasicCapacitor;
+import crazypants.util.EntityQueryCache;
 
 public class TileAttractor extends AbstractPowerConsumerEntity implements IRanged {
 
@@ -158,7 +159,7 @@ public class TileAttractor extends AbstractPowerConsumerEntity implements IRange
     tickCounter = 0;
 
     Set<EntityLiving> trackingThisTick = new HashSet<EntityLiving>();
-    List<EntityLiving> entsInBounds = worldObj.getEntitiesWithinAABB(EntityLiving.class, attractorBounds);
+    List<EntityLiving> entsInBounds = EntityQueryCache.getEntitiesWithinAABB(worldObj, EntityLiving.class, attractorBounds);
 
     int candidates = 0;
     for (EntityLiving ent : entsInBounds) {
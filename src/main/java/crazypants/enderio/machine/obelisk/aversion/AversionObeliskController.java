@@ -1,6 +1,8 @@
 package crazypants.enderio.machine.obelisk.aversion;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.minecraft.entity.monster.EntitySlime;
@@ -9,11 +11,10 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
 
-import com.enderio.core.common.util.BlockCoord;
-
 import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import crazypants.enderio.config.Config;
+import crazypants.util.ChunkSpatialIndex;
 
 public class AversionObeliskController {
 
@@ -23,7 +24,9 @@ public class AversionObeliskController {
     MinecraftForge.EVENT_BUS.register(AversionObeliskController.instance);
   }
 
-  private Map<Integer, Map<BlockCoord, TileAversionObelisk>> perWorldGuards = new HashMap<Integer, Map<BlockCoord, TileAversionObelisk>>();
+  private Map<Integer, ChunkSpatialIndex<TileAversionObelisk>> perWorldGuards = new HashMap<Integer, ChunkSpatialIndex<TileAversionObelisk>>();
+
+  private final List<TileAversionObelisk> candidates = new ArrayList<TileAversionObelisk>();
 
   private AversionObeliskController() {
   }
@@ -32,7 +35,7 @@ public class AversionObeliskController {
     if(guard == null) {
       return;
     }    
-    Map<BlockCoord, TileAversionObelisk> chargers = getGuardsForWorld(guard.getWorldObj());
+    ChunkSpatialIndex<TileAversionObelisk> chargers = getGuardsForWorld(guard.getWorldObj());
     chargers.put(guard.getLocation(), guard);
   }
 
@@ -40,7 +43,7 @@ public class AversionObeliskController {
     if(guard == null) {
       return;
     }
-    Map<BlockCoord, TileAversionObelisk> chargers = getGuardsForWorld(guard.getWorldObj());
+    ChunkSpatialIndex<TileAversionObelisk> chargers = getGuardsForWorld(guard.getWorldObj());
     chargers.remove(guard.getLocation());
   }
   
@@ -57,19 +60,29 @@ public class AversionObeliskController {
     }
     
     
-    Map<BlockCoord, TileAversionObelisk> guards = getGuardsForWorld(evt.world);
-    for(TileAversionObelisk guard : guards.values()) {
-      if(guard.isSpawnPrevented(evt.entityLiving)) {   
-        evt.setResult(Result.DENY);
-        return;
+    ChunkSpatialIndex<TileAversionObelisk> guards = getGuardsForWorld(evt.world);
+    if(guards.isEmpty()) {
+      return;
+    }
+    // a guard's range depends on its capacitor, so look as far as the largest one
+    int range = Math.max(Config.spawnGuardRangeLevelOne, Math.max(Config.spawnGuardRangeLevelTwo, Config.spawnGuardRangeLevelThree)) + 1;
+    guards.getInRange((int) Math.floor(evt.x), (int) Math.floor(evt.z), range, candidates);
+    try {
+      for(TileAversionObelisk guard : candidates) {
+        if(guard.isSpawnPrevented(evt.entityLiving)) {   
+          evt.setResult(Result.DENY);
+          return;
+        }
       }
-    }    
+    } finally {
+      candidates.clear();
+    }
   }
   
-  private Map<BlockCoord, TileAversionObelisk> getGuardsForWorld(World world) {
-    Map<BlockCoord, TileAversionObelisk> res = perWorldGuards.get(world.provider.dimensionId);
+  private ChunkSpatialIndex<TileAversionObelisk> getGuardsForWorld(World world) {
+    ChunkSpatialIndex<TileAversionObelisk> res = perWorldGuards.get(world.provider.dimensionId);
     if(res == null) {
-      res = new HashMap<BlockCoord, TileAversionObelisk>();
+      res = new ChunkSpatialIndex<TileAversionObelisk>();
       perWorldGuards.put(world.provider.dimensionId, res);
     }
     return res;
@@ -16,6 +16,8 @@ public class ManyToOneRecipeManager {
   
   private final List<IManyToOneRecipe> recipes = new ArrayList<IManyToOneRecipe>();
 
+  private final RecipeIndex<IManyToOneRecipe> index = new RecipeIndex<IManyToOneRecipe>();
+
   private final String coreFileName;
   private final String customFileName;
   private final String managerName;
@@ -142,8 +144,19 @@ public class ManyToOneRecipeManager {
   }
 
   public IRecipe getRecipeForInputs(MachineRecipeInput[] inputs) {
-
-    for (IManyToOneRecipe rec : recipes) {
+    if(inputs == null) {
+      return null;
+    }
+    ItemStack item = null;
+    for (MachineRecipeInput input : inputs) {
+      if(input != null && input.item != null) {
+        item = input.item;
+        break;
+      }
+    }
+    // every item input has to match one of the recipe's inputs, so the
+    // recipes indexed for any one of them are the only candidates
+    for (IManyToOneRecipe rec : getCandidates(item)) {
       if(rec.isInputForRecipe(inputs)) {
         return rec;
       }
@@ -151,11 +164,19 @@ public class ManyToOneRecipeManager {
     return null;
   }
 
+  private List<IManyToOneRecipe> getCandidates(ItemStack item) {
+    if(item == null) {
+      return recipes;
+    }
+    index.update(recipes);
+    return index.getCandidates(item);
+  }
+
   public boolean isValidInput(MachineRecipeInput input) {
     if(input == null || input.item == null) {
       return false;
     }
-    for (IManyToOneRecipe recipe : recipes) {
+    for (IManyToOneRecipe recipe : getCandidates(input.item)) {
       for (RecipeInput ri : recipe.getInputs()) {
         if(ri.isInput(input.item) && (ri.getSlotNumber() == -1 || input.slotNumber == ri.getSlotNumber())) {
           return true;
@@ -169,7 +190,14 @@ public class ManyToOneRecipeManager {
     if(inputs == null || inputs.length == 0) {
       return false;
     }
-    for (IManyToOneRecipe recipe : recipes) {
+    ItemStack item = null;
+    for (ItemStack stack : inputs) {
+      if(stack != null) {
+        item = stack;
+        break;
+      }
+    }
+    for (IManyToOneRecipe recipe : getCandidates(item)) {
       if(recipe.isValidRecipeComponents(inputs)) {
         return true;
       }
@@ -0,0 +1,153 @@
+package crazypants.enderio.machine.recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+import crazypants.util.ItemStackKey;
+
+/**
+ * Maps items to the recipes that have an input they could match, by item and
+ * meta, by item alone and by ore dictionary id. The candidates are returned in
+ * the order the recipes were added, callers still need to check them.
+ * Recipes with inputs that can't be indexed are candidates for every item.
+ */
+public class RecipeIndex<T extends IRecipe> {
+
+  private final List<T> recipes = new ArrayList<T>();
+
+  private final Map<ItemStackKey, IntList> byItemAndMeta = new HashMap<ItemStackKey, IntList>();
+  private final Map<Item, IntList> byItem = new HashMap<Item, IntList>();
+  private final Map<Integer, IntList> byOreId = new HashMap<Integer, IntList>();
+  private final IntList unindexed = new IntList();
+
+  public int size() {
+    return recipes.size();
+  }
+
+  /**
+   * Brings the index up to date with a list that recipes are normally only
+   * appended to, falling back to a full rebuild if it changed otherwise.
+   */
+  public void update(List<? extends T> current) {
+    int size = recipes.size();
+    if(size > current.size() || (size > 0 && recipes.get(size - 1) != current.get(size - 1))) {
+      rebuild(current);
+      return;
+    }
+    for (int i = size; i < current.size(); i++) {
+      add(current.get(i));
+    }
+  }
+
+  public void rebuild(List<? extends T> newRecipes) {
+    recipes.clear();
+    byItemAndMeta.clear();
+    byItem.clear();
+    byOreId.clear();
+    unindexed.size = 0;
+    for (T recipe : newRecipes) {
+      add(recipe);
+    }
+  }
+
+  public void add(T recipe) {
+    int index = recipes.size();
+    recipes.add(recipe);
+    RecipeInput[] inputs = recipe.getInputs();
+    if(inputs == null) {
+      return;
+    }
+    for (RecipeInput ri : inputs) {
+      if(ri == null || ri.isFluid()) {
+        continue;
+      }
+      if(ri.getClass() == OreDictionaryRecipeInput.class) {
+        get(byOreId, ((OreDictionaryRecipeInput) ri).getOreId()).add(index);
+      } else if(ri.getClass() != RecipeInput.class) {
+        unindexed.add(index);
+      } else if(ri.getInput() != null) {
+        ItemStack stack = ri.getInput();
+        if(ri.isUseMeta()) {
+          get(byItemAndMeta, new ItemStackKey(stack.getItem(), stack.getItemDamage(), null)).add(index);
+        } else {
+          get(byItem, stack.getItem()).add(index);
+        }
+      }
+    }
+  }
+
+  public List<T> getCandidates(ItemStack stack) {
+    if(stack == null || stack.getItem() == null) {
+      return new ArrayList<T>();
+    }
+    IntList found = new IntList();
+    found.addAll(byItemAndMeta.get(new ItemStackKey(stack.getItem(), stack.getItemDamage(), null)));
+    found.addAll(byItem.get(stack.getItem()));
+    if(!byOreId.isEmpty()) {
+      int[] oreIds = OreDictionary.getOreIDs(stack);
+      if(oreIds != null) {
+        for (int oreId : oreIds) {
+          found.addAll(byOreId.get(oreId));
+        }
+      }
+    }
+    found.addAll(unindexed);
+
+    int[] indices = Arrays.copyOf(found.data, found.size);
+    Arrays.sort(indices);
+    List<T> result = new ArrayList<T>(indices.length);
+    int prev = -1;
+    for (int index : indices) {
+      if(index != prev) {
+        result.add(recipes.get(index));
+        prev = index;
+      }
+    }
+    return result;
+  }
+
+  private static <K> IntList get(Map<K, IntList> map, K key) {
+    IntList res = map.get(key);
+    if(res == null) {
+      res = new IntList();
+      map.put(key, res);
+    }
+    return res;
+  }
+
+  private static final class IntList {
+
+    int[] data = new int[4];
+    int size;
+
+    void add(int value) {
+      // a recipe with several inputs on the same key only needs to be listed once
+      if(size > 0 && data[size - 1] == value) {
+        return;
+      }
+      if(size == data.length) {
+        data = Arrays.copyOf(data, size * 2);
+      }
+      data[size++] = value;
+    }
+
+    void addAll(IntList other) {
+      if(other == null || other.size == 0) {
+        return;
+      }
+      if(size + other.size > data.length) {
+        data = Arrays.copyOf(data, Math.max(size + other.size, size * 2));
+      }
+      System.arraycopy(other.data, 0, data, size, other.size);
+      size += other.size;
+    }
+
+  }
+
+}
@@ -1,5 +1,6 @@
 package crazypants.enderio.machine.vacuum;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.block.Block;
@@ -26,6 +27,7 @@ import crazypants.enderio.conduit.item.filter.ItemFilter;
 import crazypants.enderio.config.Config;
 import crazypants.enderio.machine.IRedstoneModeControlable;
 import crazypants.enderio.machine.RedstoneControlMode;
+import crazypants.util.EntityQueryCache;
 
 public class TileVacuumChest extends TileEntityEio implements IEntitySelector, IInventory, IRedstoneModeControlable {
 
@@ -42,16 +44,111 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
   protected boolean redstoneCheckPassed;
   private boolean redstoneStateDirty = true;
 
+  // items handed to this chest by the VacuumChestController
+  private List<EntityItem> trackedItems = new ArrayList<EntityItem>();
+  private boolean registered;
+  private boolean hooverActive;
+
   @Override
   public void doUpdate() {
     if(redstoneStateDirty) {
       updateRedstoneStatus();
     }
+    if(Config.vacuumChestItemEvents && !worldObj.isRemote) {
+      if(!registered) {
+        hooverActive = redstoneCheckPassed && !isFull();
+        registered = true;
+        VacuumChestController.instance.registerChest(this);
+      }
+      updateHooverActive();
+      hooverTrackedItems();
+      return;
+    }
     if(redstoneCheckPassed && !isFull()) {
       doHoover();
     }
   }
 
+  private void updateHooverActive() {
+    boolean active = redstoneCheckPassed && !isFull();
+    if(active != hooverActive) {
+      hooverActive = active;
+      if(active) {
+        VacuumChestController.instance.rescan(this);
+      } else {
+        VacuumChestController.instance.releaseItems(this);
+      }
+    }
+  }
+
+  @Override
+  public void invalidate() {
+    super.invalidate();
+    deregister();
+  }
+
+  @Override
+  public void onChunkUnload() {
+    super.onChunkUnload();
+    deregister();
+  }
+
+  private void deregister() {
+    if(registered) {
+      registered = false;
+      VacuumChestController.instance.deregisterChest(this);
+    }
+  }
+
+  private void refreshTrackedItems() {
+    if(registered) {
+      VacuumChestController.instance.releaseItems(this);
+      VacuumChestController.instance.rescan(this);
+    }
+  }
+
+  boolean isHooverActive() {
+    return hooverActive;
+  }
+
+  boolean acceptsItem(EntityItem item) {
+    return filter == null || filter.doesItemPassFilter(item.getEntityItem());
+  }
+
+  void track(EntityItem item) {
+    trackedItems.add(item);
+  }
+
+  void untrack(EntityItem item) {
+    trackedItems.remove(item);
+  }
+
+  List<EntityItem> takeTrackedItems() {
+    List<EntityItem> res = trackedItems;
+    trackedItems = new ArrayList<EntityItem>();
+    return res;
+  }
+
+  private void hooverTrackedItems() {
+    int rangeSqr = range * range;
+    for (int i = trackedItems.size() - 1; i >= 0; i--) {
+      EntityItem entity = trackedItems.get(i);
+      if(entity.isDead || !worldObj.getChunkProvider().chunkExists(entity.chunkCoordX, entity.chunkCoordZ)) {
+        trackedItems.remove(i);
+        VacuumChestController.instance.itemLost(this, entity);
+      } else if(hooverActive && isInRange(entity)) {
+        hooverItem(entity, rangeSqr);
+      }
+    }
+  }
+
+  private boolean isInRange(Entity entity) {
+    AxisAlignedBB bb = entity.boundingBox;
+    return bb.maxX > xCoord - range && bb.minX < xCoord + 1 + range
+        && bb.maxY > yCoord - range && bb.minY < yCoord + 1 + range
+        && bb.maxZ > zCoord - range && bb.minZ < zCoord + 1 + range;
+  }
+
   private void updateRedstoneStatus() {
     boolean prevRedstoneCheckPassed = redstoneCheckPassed;
     redstoneCheckPassed = RedstoneControlMode.isConditionMet(redstoneControlMode, this);
@@ -79,37 +176,40 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
     return false;
   }
 
-  @SuppressWarnings("unchecked")
   private void doHoover() {
 
     int rangeSqr = range*range;
     BoundingBox bb = new BoundingBox(getLocation());
     AxisAlignedBB aabb = AxisAlignedBB.getBoundingBox(bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ);
     aabb = aabb.expand(range, range, range);
-    List<EntityItem> interestingItems = worldObj.selectEntitiesWithinAABB(EntityItem.class, aabb, this);
+    List<EntityItem> interestingItems = EntityQueryCache.selectEntitiesWithinAABB(worldObj, EntityItem.class, aabb, this);
 
     for (EntityItem entity : interestingItems) {
       if(filter == null || filter.doesItemPassFilter(entity.getEntityItem())) {
-        double x = (xCoord + 0.5D - entity.posX);
-        double y = (yCoord + 0.5D - entity.posY);
-        double z = (zCoord + 0.5D - entity.posZ);
-
-        double distance = Math.sqrt(x * x + y * y + z * z);
-        if(distance < 1.25) {
-          hooverEntity(entity);
-        } else {
-          double speed = 0.06;
-          double distScale = 1.0 - Math.min(0.9, distance / rangeSqr);
-          distScale *= distScale;
-
-          entity.motionX += x / distance * distScale * speed;
-          entity.motionY += y / distance * distScale * 0.2;
-          entity.motionZ += z / distance * distScale * speed;
-        }
+        hooverItem(entity, rangeSqr);
       }
     }
   }
 
+  private void hooverItem(EntityItem entity, int rangeSqr) {
+    double x = (xCoord + 0.5D - entity.posX);
+    double y = (yCoord + 0.5D - entity.posY);
+    double z = (zCoord + 0.5D - entity.posZ);
+
+    double distance = Math.sqrt(x * x + y * y + z * z);
+    if(distance < 1.25) {
+      hooverEntity(entity);
+    } else {
+      double speed = 0.06;
+      double distScale = 1.0 - Math.min(0.9, distance / rangeSqr);
+      distScale *= distScale;
+
+      entity.motionX += x / distance * distScale * speed;
+      entity.motionY += y / distance * distScale * 0.2;
+      entity.motionZ += z / distance * distScale * speed;
+    }
+  }
+
   private void hooverEntity(Entity entity) {
     if(!worldObj.isRemote) {
       if(entity instanceof EntityItem && !entity.isDead) {
@@ -237,6 +337,7 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
 
   public void setRange(int range) {
     this.range = limitRange(range);
+    refreshTrackedItems();
     updateBlock();
   }
 
@@ -249,6 +350,7 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
     if(newFilter == null || newFilter instanceof ItemFilter) {
       this.filterItem = filterItem;
       this.filter = (ItemFilter)newFilter;
+      refreshTrackedItems();
       updateBlock();
     }
   }
@@ -284,6 +386,7 @@ public class TileVacuumChest extends TileEntityEio implements IEntitySelector, I
 
   private void updateFilterItem() {
     FilterRegister.writeFilterToStack(filter, filterItem);
+    refreshTrackedItems();
     updateBlock();
   }
 
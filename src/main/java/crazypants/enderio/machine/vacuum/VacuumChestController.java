@@ -0,0 +1,173 @@
+package crazypants.enderio.machine.vacuum;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import cpw.mods.fml.common.eventhandler.EventPriority;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import crazypants.enderio.config.Config;
+import crazypants.util.ChunkSpatialIndex;
+import crazypants.util.EntityQueryCache;
+
+/**
+ * Hands item entities to vacuum chests when they spawn or move into another
+ * chunk section, so chests don't have to scan their range every tick. Each
+ * item goes to the nearest chest that is able to pick items up and whose
+ * filter accepts it. Chests that can't pick items up hold none, they rescan
+ * their area once they can again.
+ */
+public class VacuumChestController {
+
+  public static final VacuumChestController instance = new VacuumChestController();
+
+  static {
+    MinecraftForge.EVENT_BUS.register(instance);
+  }
+
+  // items are tracked while they are this far outside a chest's range, so they
+  // are noticed when they drift in without changing chunk section
+  private static final int TRACKING_MARGIN = 16;
+
+  private final Map<Integer, WorldChests> perWorldChests = new HashMap<Integer, WorldChests>();
+
+  private final List<TileVacuumChest> candidates = new ArrayList<TileVacuumChest>();
+
+  private VacuumChestController() {
+  }
+
+  public void registerChest(TileVacuumChest chest) {
+    getChestsForWorld(chest.getWorldObj()).chests.put(chest.getLocation(), chest);
+    rescan(chest);
+  }
+
+  public void deregisterChest(TileVacuumChest chest) {
+    getChestsForWorld(chest.getWorldObj()).chests.remove(chest.getLocation());
+    releaseItems(chest);
+  }
+
+  /**
+   * Offers all items around the chest to it again, after it started accepting
+   * items or its filter or range changed.
+   */
+  void rescan(TileVacuumChest chest) {
+    int range = chest.getRange() + TRACKING_MARGIN;
+    AxisAlignedBB bb = AxisAlignedBB.getBoundingBox(chest.xCoord - range, chest.yCoord - range, chest.zCoord - range,
+        chest.xCoord + 1 + range, chest.yCoord + 1 + range, chest.zCoord + 1 + range);
+    for (EntityItem item : EntityQueryCache.getEntitiesWithinAABB(chest.getWorldObj(), EntityItem.class, bb)) {
+      if(!item.isDead) {
+        assign(chest.getWorldObj(), item);
+      }
+    }
+  }
+
+  /**
+   * Gives the chest's items to other chests, after it stopped accepting items
+   * or was removed.
+   */
+  void releaseItems(TileVacuumChest chest) {
+    WorldChests wc = getChestsForWorld(chest.getWorldObj());
+    for (EntityItem item : chest.takeTrackedItems()) {
+      wc.assigned.remove(item);
+      if(!item.isDead) {
+        assign(chest.getWorldObj(), item);
+      }
+    }
+  }
+
+  void itemLost(TileVacuumChest chest, EntityItem item) {
+    WorldChests wc = getChestsForWorld(chest.getWorldObj());
+    if(wc.assigned.get(item) == chest) {
+      wc.assigned.remove(item);
+    }
+  }
+
+  @SubscribeEvent(priority = EventPriority.LOWEST)
+  public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
+    if(evt.entity instanceof EntityItem && !evt.world.isRemote) {
+      assign(evt.world, (EntityItem) evt.entity);
+    }
+  }
+
+  @SubscribeEvent
+  public void onEnteringChunk(EntityEvent.EnteringChunk evt) {
+    if(evt.entity instanceof EntityItem && evt.entity.worldObj != null && !evt.entity.worldObj.isRemote) {
+      assign(evt.entity.worldObj, (EntityItem) evt.entity);
+    }
+  }
+
+  private void assign(World world, EntityItem item) {
+    if(!Config.vacuumChestItemEvents) {
+      return;
+    }
+    WorldChests wc = perWorldChests.get(world.provider.dimensionId);
+    if(wc == null || wc.chests.isEmpty()) {
+      return;
+    }
+    TileVacuumChest best = null;
+    double bestDist = 0;
+    wc.chests.getInRange((int) Math.floor(item.posX), (int) Math.floor(item.posZ), Config.vacuumChestRange + TRACKING_MARGIN + 1, candidates);
+    try {
+      for (TileVacuumChest chest : candidates) {
+        if(chest.isInvalid() || !chest.isHooverActive() || !isNear(chest, item) || !chest.acceptsItem(item)) {
+          continue;
+        }
+        double x = chest.xCoord + 0.5 - item.posX;
+        double y = chest.yCoord + 0.5 - item.posY;
+        double z = chest.zCoord + 0.5 - item.posZ;
+        double dist = x * x + y * y + z * z;
+        if(best == null || dist < bestDist) {
+          best = chest;
+          bestDist = dist;
+        }
+      }
+    } finally {
+      candidates.clear();
+    }
+
+    TileVacuumChest current = wc.assigned.get(item);
+    if(current == best) {
+      return;
+    }
+    if(current != null) {
+      current.untrack(item);
+    }
+    if(best == null) {
+      wc.assigned.remove(item);
+    } else {
+      wc.assigned.put(item, best);
+      best.track(item);
+    }
+  }
+
+  private static boolean isNear(TileVacuumChest chest, EntityItem item) {
+    double range = chest.getRange() + TRACKING_MARGIN + 0.5;
+    return Math.abs(chest.xCoord + 0.5 - item.posX) <= range && Math.abs(chest.yCoord + 0.5 - item.posY) <= range
+        && Math.abs(chest.zCoord + 0.5 - item.posZ) <= range;
+  }
+
+  private WorldChests getChestsForWorld(World world) {
+    WorldChests res = perWorldChests.get(world.provider.dimensionId);
+    if(res == null) {
+      res = new WorldChests();
+      perWorldChests.put(world.provider.dimensionId, res);
+    }
+    return res;
+  }
+
+  private static final class WorldChests {
+
+    final ChunkSpatialIndex<TileVacuumChest> chests = new ChunkSpatialIndex<TileVacuumChest>();
+    final Map<EntityItem, TileVacuumChest> assigned = new WeakHashMap<EntityItem, TileVacuumChest>();
+
+  }
+
+}
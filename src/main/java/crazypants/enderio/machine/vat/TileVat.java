@@ -5,6 +5,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidContainerRegistry;
+import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.FluidTankInfo;
@@ -17,10 +18,12 @@ import com.enderio.core.common.util.FluidUtil;
 import crazypants.enderio.ModObject;
 import crazypants.enderio.config.Config;
 import crazypants.enderio.machine.AbstractPoweredTaskEntity;
+import crazypants.enderio.machine.IMachineRecipe;
 import crazypants.enderio.machine.IMachineRecipe.ResultStack;
 import crazypants.enderio.machine.IPoweredTask;
 import crazypants.enderio.machine.MachineRecipeInput;
 import crazypants.enderio.machine.SlotDefinition;
+import crazypants.enderio.machine.SyncedField;
 import crazypants.enderio.network.PacketHandler;
 
 public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler, ITankAccess {
@@ -36,8 +39,65 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
   Fluid currentTaskInputFluid;
   Fluid currentTaskOutputFluid;
 
+  // server side, the fluids of taskFluidsFor, worked out once per task
+  private IPoweredTask taskFluidsFor;
+  private int taskInputFluidId = -1;
+  private int taskOutputFluidId = -1;
+
   public TileVat() {
     super(new SlotDefinition(0, 1, -1, -1, -1, -1));
+    addSyncedField(new SyncedField() {
+      @Override
+      protected int getValue() {
+        updateTaskFluids();
+        return taskInputFluidId;
+      }
+
+      @Override
+      protected void setValue(int value) {
+        currentTaskInputFluid = value > 0 ? FluidRegistry.getFluid(value) : null;
+      }
+    });
+    addSyncedField(new SyncedField() {
+      @Override
+      protected int getValue() {
+        updateTaskFluids();
+        return taskOutputFluidId;
+      }
+
+      @Override
+      protected void setValue(int value) {
+        currentTaskOutputFluid = value > 0 ? FluidRegistry.getFluid(value) : null;
+      }
+    });
+  }
+
+  private void updateTaskFluids() {
+    IPoweredTask task = getCurrentTask();
+    if(task == taskFluidsFor) {
+      return;
+    }
+    taskFluidsFor = task;
+    taskInputFluidId = -1;
+    taskOutputFluidId = -1;
+    if(task == null) {
+      return;
+    }
+    for (MachineRecipeInput input : task.getInputs()) {
+      if(input.fluid != null && input.fluid.getFluid() != null) {
+        taskInputFluidId = input.fluid.getFluid().getID();
+        break;
+      }
+    }
+    IMachineRecipe rec = task.getRecipe();
+    if(rec == null) {
+      return;
+    }
+    for (ResultStack res : rec.getCompletedResult(1.0f, task.getInputs())) {
+      if(res.fluid != null && res.fluid.getFluid() != null) {
+        taskOutputFluidId = res.fluid.getFluid().getID();
+      }
+    }
   }
 
   @Override
@@ -193,12 +253,6 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
     return res;
   }
 
-  @Override
-  protected void sendTaskProgressPacket() {
-    PacketHandler.sendToAllAround(new PacketVatProgress(this), this);
-    ticksSinceLastProgressUpdate = 0;
-  }
-
   @Override
   protected void mergeFluidResult(ResultStack result) {
     outputTank.fill(result.fluid, true);
@@ -327,10 +381,6 @@ public class TileVat extends AbstractPoweredTaskEntity implements IFluidHandler,
     return super.getVolume() * 0.3f;
   }
 
-  void setClientTask(IPoweredTask currentTask) {
-    this.currentTask = currentTask;
-  }
-
   @Override
   public FluidTank getInputTank(FluidStack forFluidType) {
     return inputTank;
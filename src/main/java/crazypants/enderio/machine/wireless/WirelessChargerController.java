@@ -1,7 +1,9 @@
 package crazypants.enderio.machine.wireless;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -18,6 +20,7 @@ import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import crazypants.enderio.config.Config;
 import crazypants.util.BaublesUtil;
+import crazypants.util.ChunkSpatialIndex;
 
 public class WirelessChargerController {
 
@@ -31,9 +34,11 @@ public class WirelessChargerController {
     MinecraftForge.EVENT_BUS.register(WirelessChargerController.instance);
   }
 
-  private final Map<Integer, Map<BlockCoord, IWirelessCharger>> perWorldChargers = new HashMap<Integer, Map<BlockCoord, IWirelessCharger>>();
+  private final Map<Integer, ChunkSpatialIndex<IWirelessCharger>> perWorldChargers = new HashMap<Integer, ChunkSpatialIndex<IWirelessCharger>>();
   private int changeCount;
 
+  private final List<IWirelessCharger> candidates = new ArrayList<IWirelessCharger>();
+
   private WirelessChargerController() {
   }
 
@@ -41,7 +46,7 @@ public class WirelessChargerController {
     if(charger == null) {
       return;
     }
-    Map<BlockCoord, IWirelessCharger> chargers = getChargersForWorld(charger.getWorld());
+    ChunkSpatialIndex<IWirelessCharger> chargers = getChargersForWorld(charger.getWorld());
     chargers.put(charger.getLocation(), charger);
     changeCount++;
   }
@@ -50,7 +55,7 @@ public class WirelessChargerController {
     if(capBank == null) {
       return;
     }
-    Map<BlockCoord, IWirelessCharger> chargers = getChargersForWorld(capBank.getWorld());
+    ChunkSpatialIndex<IWirelessCharger> chargers = getChargersForWorld(capBank.getWorld());
     chargers.remove(capBank.getLocation());
     changeCount++;
   }
@@ -68,8 +73,10 @@ public class WirelessChargerController {
   }
 
   public void getChargers(World world, BlockCoord bc, Collection<IWirelessCharger> res) {
-    Map<BlockCoord, IWirelessCharger> chargers = getChargersForWorld(world);
-    for (IWirelessCharger wc : chargers.values()) {
+    ChunkSpatialIndex<IWirelessCharger> chargers = getChargersForWorld(world);
+    List<IWirelessCharger> inRange = new ArrayList<IWirelessCharger>();
+    chargers.getInRange(bc.x, bc.z, RANGE, inRange);
+    for (IWirelessCharger wc : inRange) {
       if(wc.getLocation().getDistSq(bc) <= RANGE_SQ) {
         res.add(wc);
       }
@@ -77,18 +84,23 @@ public class WirelessChargerController {
   }
 
   public void chargePlayersItems(EntityPlayer player) {
-    Map<BlockCoord, IWirelessCharger> chargers = getChargersForWorld(player.worldObj);
+    ChunkSpatialIndex<IWirelessCharger> chargers = getChargersForWorld(player.worldObj);
     if(chargers.isEmpty()) {
       return;
     }
     BlockCoord bc = new BlockCoord(player);
-    for (IWirelessCharger capBank : chargers.values()) {
-      if(capBank.isActive() && capBank.getLocation().getDistSq(bc) <= RANGE_SQ) {
-        boolean done = chargeFromCapBank(player, capBank);
-        if(done) {
-          return;
+    chargers.getInRange(bc.x, bc.z, RANGE, candidates);
+    try {
+      for (IWirelessCharger capBank : candidates) {
+        if(capBank.isActive() && capBank.getLocation().getDistSq(bc) <= RANGE_SQ) {
+          boolean done = chargeFromCapBank(player, capBank);
+          if(done) {
+            return;
+          }
         }
       }
+    } finally {
+      candidates.clear();
     }
   }
 
@@ -109,20 +121,28 @@ public class WirelessChargerController {
     return res;
   }
 
-  private Map<BlockCoord, IWirelessCharger> getChargersForWorld(World world) {
-    Map<BlockCoord, IWirelessCharger> res = perWorldChargers.get(world.provider.dimensionId);
+  private ChunkSpatialIndex<IWirelessCharger> getChargersForWorld(World world) {
+    ChunkSpatialIndex<IWirelessCharger> res = perWorldChargers.get(world.provider.dimensionId);
     if(res == null) {
-      res = new HashMap<BlockCoord, IWirelessCharger>();
+      res = new ChunkSpatialIndex<IWirelessCharger>();
       perWorldChargers.put(world.provider.dimensionId, res);
     }
     return res;
   }
 
   public Collection<IWirelessCharger> getChargers(World world) {
-    return getChargerMap(world).values();
+    return getChargersForWorld(world).values();
   }
 
   public Map<BlockCoord, IWirelessCharger> getChargerMap(World world) {
-    return perWorldChargers.get(world.provider.dimensionId);
+    ChunkSpatialIndex<IWirelessCharger> chargers = perWorldChargers.get(world.provider.dimensionId);
+    if(chargers == null) {
+      return null;
+    }
+    Map<BlockCoord, IWirelessCharger> res = new HashMap<BlockCoord, IWirelessCharger>();
+    for (IWirelessCharger wc : chargers.values()) {
+      res.put(wc.getLocation(), wc);
+    }
+    return res;
   }
 }
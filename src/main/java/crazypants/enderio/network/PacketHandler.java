@@ -1,7 +1,9 @@
 package crazypants.enderio.network;
 
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import cpw.mods.fml.common.network.NetworkRegistry.TargetPoint;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
@@ -27,6 +29,25 @@ public class PacketHandler
         sendToAllAround(message, te, 64);
     }
 
+    /**
+     * Sends to every player that has the tile entity's chunk loaded, the same
+     * players that get its description packet.
+     */
+    public static void sendToAllWatching(IMessage message, TileEntity te) {
+      if(!(te.getWorldObj() instanceof WorldServer)) {
+        return;
+      }
+      PlayerManager playerManager = ((WorldServer) te.getWorldObj()).getPlayerManager();
+      int chunkX = te.xCoord >> 4;
+      int chunkZ = te.zCoord >> 4;
+      for (Object o : te.getWorldObj().playerEntities) {
+        EntityPlayerMP player = (EntityPlayerMP) o;
+        if(playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
+          INSTANCE.sendTo(message, player);
+        }
+      }
+    }
+
     public static void sendTo(IMessage message, EntityPlayerMP player) {
       INSTANCE.sendTo(message, player);
     }
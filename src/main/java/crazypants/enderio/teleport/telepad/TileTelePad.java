@@ -47,6 +47,7 @@ import crazypants.enderio.teleport.TravelController;
 import crazypants.enderio.teleport.anchor.TileTravelAnchor;
 import crazypants.enderio.teleport.packet.PacketTravelEvent;
 import crazypants.enderio.teleport.telepad.PacketTeleport.Type;
+import crazypants.util.EntityQueryCache;
 
 public class TileTelePad extends TileTravelAnchor implements IInternalPowerReceiver, ITelePad, IProgressTile {
   
@@ -567,9 +568,8 @@ public class TileTelePad extends TileTravelAnchor implements IInternalPowerRecei
     }
   }
 
-  @SuppressWarnings("unchecked")
   private List<Entity> getEntitiesInRange() {
-    return worldObj.getEntitiesWithinAABB(Entity.class, getRange());
+    return EntityQueryCache.getEntitiesWithinAABB(worldObj, Entity.class, getRange());
   }
 
   private boolean isEntityInRange(Entity entity) {
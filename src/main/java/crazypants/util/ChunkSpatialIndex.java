@@ -0,0 +1,105 @@
+package crazypants.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.enderio.core.common.util.BlockCoord;
+
+/**
+ * Block positions bucketed by chunk column, so range queries only look at the
+ * chunks they cover. Results are candidates, callers still need to check the
+ * exact range.
+ */
+public class ChunkSpatialIndex<T> {
+
+  private final Map<Long, Map<BlockCoord, T>> buckets = new HashMap<Long, Map<BlockCoord, T>>();
+  private int size;
+
+  public T put(BlockCoord bc, T value) {
+    long key = getKey(bc.x >> 4, bc.z >> 4);
+    Map<BlockCoord, T> bucket = buckets.get(key);
+    if(bucket == null) {
+      bucket = new HashMap<BlockCoord, T>();
+      buckets.put(key, bucket);
+    }
+    T old = bucket.put(bc, value);
+    if(old == null) {
+      size++;
+    }
+    return old;
+  }
+
+  public T remove(BlockCoord bc) {
+    long key = getKey(bc.x >> 4, bc.z >> 4);
+    Map<BlockCoord, T> bucket = buckets.get(key);
+    if(bucket == null) {
+      return null;
+    }
+    T old = bucket.remove(bc);
+    if(old != null) {
+      size--;
+      if(bucket.isEmpty()) {
+        buckets.remove(key);
+      }
+    }
+    return old;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds everything in the chunks within range of the given position.
+   */
+  public void getInRange(int x, int z, int range, Collection<? super T> result) {
+    if(size == 0) {
+      return;
+    }
+    int minX = (x - range) >> 4;
+    int maxX = (x + range) >> 4;
+    int minZ = (z - range) >> 4;
+    int maxZ = (z + range) >> 4;
+    long numChunks = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+    if(numChunks > buckets.size()) {
+      // large range and few entries, cheaper to check the buckets we have
+      for (Map<BlockCoord, T> bucket : buckets.values()) {
+        BlockCoord bc = bucket.keySet().iterator().next();
+        int cx = bc.x >> 4;
+        int cz = bc.z >> 4;
+        if(cx >= minX && cx <= maxX && cz >= minZ && cz <= maxZ) {
+          result.addAll(bucket.values());
+        }
+      }
+      return;
+    }
+    for (int cx = minX; cx <= maxX; cx++) {
+      for (int cz = minZ; cz <= maxZ; cz++) {
+        Map<BlockCoord, T> bucket = buckets.get(getKey(cx, cz));
+        if(bucket != null) {
+          result.addAll(bucket.values());
+        }
+      }
+    }
+  }
+
+  public List<T> values() {
+    List<T> res = new ArrayList<T>(size);
+    for (Map<BlockCoord, T> bucket : buckets.values()) {
+      res.addAll(bucket.values());
+    }
+    return res;
+  }
+
+  private static long getKey(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+}
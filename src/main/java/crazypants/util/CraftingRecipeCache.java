@@ -0,0 +1,165 @@
+package crazypants.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.world.World;
+
+/**
+ * A cached version of {@link CraftingManager#findMatchingRecipe}. Remembers
+ * which recipe matched a crafting grid, keyed on the item, meta and NBT in each
+ * slot, so crafting the same pattern again doesn't scan the whole recipe list.
+ * A cached recipe is checked with {@link IRecipe#matches} before it is used.
+ */
+public final class CraftingRecipeCache {
+
+  private static final int MAX_ENTRIES = 1024;
+
+  // cached for patterns that didn't match any recipe
+  private static final Object NO_MATCH = new Object();
+
+  // least recently used patterns are dropped first
+  private static final Map<PatternKey, Object> cache = new LinkedHashMap<PatternKey, Object>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<PatternKey, Object> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  // a reload can replace recipes without changing how many there are, the
+  // first and last entries catch most of those
+  private static int cachedRecipeCount = -1;
+  private static Object cachedFirstRecipe;
+  private static Object cachedLastRecipe;
+
+  private CraftingRecipeCache() {
+  }
+
+  public static ItemStack findMatchingRecipe(InventoryCrafting inv, World world) {
+    if(isPossibleRepair(inv)) {
+      // vanilla checks for tool repairs before any recipe
+      return CraftingManager.getInstance().findMatchingRecipe(inv, world);
+    }
+    List<?> recipes = CraftingManager.getInstance().getRecipeList();
+    PatternKey key = new PatternKey(inv);
+    Object cached = get(key, recipes);
+    if(cached == NO_MATCH) {
+      return null;
+    }
+    if(cached != null && ((IRecipe) cached).matches(inv, world)) {
+      return ((IRecipe) cached).getCraftingResult(inv);
+    }
+    for (Object o : recipes) {
+      IRecipe recipe = (IRecipe) o;
+      if(recipe.matches(inv, world)) {
+        put(key.copy(), recipe);
+        return recipe.getCraftingResult(inv);
+      }
+    }
+    put(key.copy(), NO_MATCH);
+    return null;
+  }
+
+  private static synchronized Object get(PatternKey key, List<?> recipes) {
+    int count = recipes.size();
+    Object first = count == 0 ? null : recipes.get(0);
+    Object last = count == 0 ? null : recipes.get(count - 1);
+    if(count != cachedRecipeCount || first != cachedFirstRecipe || last != cachedLastRecipe) {
+      // recipes were added, removed or replaced
+      cache.clear();
+      cachedRecipeCount = count;
+      cachedFirstRecipe = first;
+      cachedLastRecipe = last;
+      return null;
+    }
+    return cache.get(key);
+  }
+
+  /**
+   * Forgets all cached recipes, for when recipes may have been changed in a way
+   * the size and end checks can't see.
+   */
+  public static synchronized void clear() {
+    cache.clear();
+    cachedRecipeCount = -1;
+    cachedFirstRecipe = null;
+    cachedLastRecipe = null;
+  }
+
+  private static synchronized void put(PatternKey key, Object value) {
+    cache.put(key, value);
+  }
+
+  private static boolean isPossibleRepair(InventoryCrafting inv) {
+    ItemStack first = null;
+    ItemStack second = null;
+    for (int i = 0; i < inv.getSizeInventory(); i++) {
+      ItemStack stack = inv.getStackInSlot(i);
+      if(stack != null) {
+        if(first == null) {
+          first = stack;
+        } else if(second == null) {
+          second = stack;
+        } else {
+          return false;
+        }
+      }
+    }
+    return second != null && first.getItem() == second.getItem() && first.getItem().isRepairable();
+  }
+
+  private static final class PatternKey {
+
+    private final ItemStackKey[] slots;
+    private final int hash;
+
+    PatternKey(InventoryCrafting inv) {
+      slots = new ItemStackKey[inv.getSizeInventory()];
+      for (int i = 0; i < slots.length; i++) {
+        ItemStack stack = inv.getStackInSlot(i);
+        if(stack != null && stack.getItem() != null) {
+          slots[i] = new ItemStackKey(stack);
+        }
+      }
+      hash = Arrays.hashCode(slots);
+    }
+
+    private PatternKey(ItemStackKey[] slots, int hash) {
+      this.slots = slots;
+      this.hash = hash;
+    }
+
+    PatternKey copy() {
+      ItemStackKey[] copy = new ItemStackKey[slots.length];
+      for (int i = 0; i < slots.length; i++) {
+        copy[i] = slots[i] == null ? null : slots[i].copy();
+      }
+      return new PatternKey(copy, hash);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(!(obj instanceof PatternKey)) {
+        return false;
+      }
+      PatternKey other = (PatternKey) obj;
+      return hash == other.hash && Arrays.equals(slots, other.slots);
+    }
+
+  }
+
+}
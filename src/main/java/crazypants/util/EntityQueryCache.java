@@ -0,0 +1,154 @@
+package crazypants.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.command.IEntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import crazypants.enderio.config.Config;
+
+/**
+ * Entity lookups for machines that scan an area every tick. The entities in a
+ * chunk section are filtered by class once per world tick and shared by every
+ * query that covers that section, so overlapping machines don't each walk the
+ * same chunks. Entities spawned later in the same tick are found on the next
+ * one, so code that spawns entities and then looks them up in the same tick
+ * must not use this. Only server worlds are cached, and nothing is kept once
+ * the world's tick has ended or the world is unloaded.
+ */
+public final class EntityQueryCache {
+
+  private static final Map<World, EntityQueryCache> caches = Collections.synchronizedMap(new WeakHashMap<World, EntityQueryCache>());
+
+  private static final List<Entity> NONE = Collections.emptyList();
+
+  static {
+    EventHandler handler = new EventHandler();
+    MinecraftForge.EVENT_BUS.register(handler);
+    FMLCommonHandler.instance().bus().register(handler);
+  }
+
+  private final Map<Long, Map<Class<?>, List<Entity>>> sections = new HashMap<Long, Map<Class<?>, List<Entity>>>();
+  private long tick = -1;
+
+  private EntityQueryCache() {
+  }
+
+  public static <T extends Entity> List<T> getEntitiesWithinAABB(World world, Class<T> type, AxisAlignedBB bb) {
+    return selectEntitiesWithinAABB(world, type, bb, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T extends Entity> List<T> selectEntitiesWithinAABB(World world, Class<T> type, AxisAlignedBB bb, IEntitySelector selector) {
+    // client worlds don't tick on the server's WorldTickEvent, so they aren't cached
+    if(!Config.sharedEntityQueries || world.isRemote) {
+      return world.selectEntitiesWithinAABB(type, bb, selector);
+    }
+    EntityQueryCache cache = caches.get(world);
+    if(cache == null) {
+      cache = new EntityQueryCache();
+      caches.put(world, cache);
+    }
+    return cache.select(world, type, bb, selector);
+  }
+
+  private void clear() {
+    sections.clear();
+    tick = -1;
+  }
+
+  private <T extends Entity> List<T> select(World world, Class<T> type, AxisAlignedBB bb, IEntitySelector selector) {
+    long now = world.getTotalWorldTime();
+    if(now != tick) {
+      sections.clear();
+      tick = now;
+    }
+
+    // same margins as World.selectEntitiesWithinAABB
+    int minX = MathHelper.floor_double((bb.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+    int maxX = MathHelper.floor_double((bb.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+    int minY = MathHelper.floor_double((bb.minY - World.MAX_ENTITY_RADIUS) / 16.0D);
+    int maxY = MathHelper.floor_double((bb.maxY + World.MAX_ENTITY_RADIUS) / 16.0D);
+    int minZ = MathHelper.floor_double((bb.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+    int maxZ = MathHelper.floor_double((bb.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+
+    List<T> res = new ArrayList<T>();
+    IChunkProvider provider = world.getChunkProvider();
+    for (int cx = minX; cx <= maxX; cx++) {
+      for (int cz = minZ; cz <= maxZ; cz++) {
+        if(!provider.chunkExists(cx, cz)) {
+          continue;
+        }
+        Chunk chunk = world.getChunkFromChunkCoords(cx, cz);
+        int fromY = MathHelper.clamp_int(minY, 0, chunk.entityLists.length - 1);
+        int toY = MathHelper.clamp_int(maxY, 0, chunk.entityLists.length - 1);
+        for (int cy = fromY; cy <= toY; cy++) {
+          for (Entity entity : getSection(chunk, cy, type)) {
+            if(entity.boundingBox.intersectsWith(bb) && (selector == null || selector.isEntityApplicable(entity))) {
+              res.add(type.cast(entity));
+            }
+          }
+        }
+      }
+    }
+    return res;
+  }
+
+  private List<Entity> getSection(Chunk chunk, int cy, Class<?> type) {
+    long key = ((long) chunk.xPosition << 32) | ((chunk.zPosition & 0xFFFFFFL) << 8) | (cy & 0xFF);
+    Map<Class<?>, List<Entity>> byType = sections.get(key);
+    if(byType == null) {
+      byType = new HashMap<Class<?>, List<Entity>>();
+      sections.put(key, byType);
+    }
+    List<Entity> res = byType.get(type);
+    if(res == null) {
+      res = NONE;
+      for (Object o : chunk.entityLists[cy]) {
+        if(type.isInstance(o)) {
+          if(res == NONE) {
+            res = new ArrayList<Entity>();
+          }
+          res.add((Entity) o);
+        }
+      }
+      byType.put(type, res);
+    }
+    return res;
+  }
+
+  public static final class EventHandler {
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+      if(event.phase == Phase.END) {
+        EntityQueryCache cache = caches.get(event.world);
+        if(cache != null) {
+          cache.clear();
+        }
+      }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+      caches.remove(event.world);
+    }
+
+  }
+
+}
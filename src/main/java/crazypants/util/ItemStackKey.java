@@ -0,0 +1,60 @@
+package crazypants.util;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Identity of an item stack (item, meta and NBT) ignoring its size, for use as
+ * a hash key. Keys made with {@link #ItemStackKey(ItemStack)} share the
+ * stack's NBT, use {@link #copy()} before keeping one in a long lived map.
+ */
+public final class ItemStackKey {
+
+  public final Item item;
+  public final int meta;
+  public final NBTTagCompound nbt;
+  private final int hash;
+
+  public ItemStackKey(ItemStack stack) {
+    this(stack.getItem(), stack.getItemDamage(), stack.stackTagCompound);
+  }
+
+  public ItemStackKey(Item item, int meta, NBTTagCompound nbt) {
+    this.item = item;
+    this.meta = meta;
+    this.nbt = nbt;
+    int result = 31 + System.identityHashCode(item);
+    result = 31 * result + meta;
+    result = 31 * result + (nbt == null ? 0 : nbt.hashCode());
+    hash = result;
+  }
+
+  public ItemStackKey copy() {
+    if(nbt == null) {
+      return this;
+    }
+    return new ItemStackKey(item, meta, (NBTTagCompound) nbt.copy());
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+    if(!(obj instanceof ItemStackKey)) {
+      return false;
+    }
+    ItemStackKey other = (ItemStackKey) obj;
+    if(hash != other.hash || item != other.item || meta != other.meta) {
+      return false;
+    }
+    return nbt == null ? other.nbt == null : nbt.equals(other.nbt);
+  }
+
+}